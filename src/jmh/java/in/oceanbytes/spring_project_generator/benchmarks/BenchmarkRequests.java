@@ -0,0 +1,45 @@
+package in.oceanbytes.spring_project_generator.benchmarks;
+
+import in.oceanbytes.spring_project_generator.models.ProjectRequest;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Fixed benchmark inputs, so results stay comparable between runs and engines.
+ */
+public final class BenchmarkRequests {
+
+    // Every package offered by the UI (project.generator.available-packages).
+    private static final List<String> ALL_PACKAGES = Arrays.asList("controllers", "services", "repositories", "models",
+            "exceptions", "config", "common", "constants", "aspects", "entities", "utils");
+    private static final List<String> ALL_APIS = Arrays.asList("GET", "POST", "PUT", "DELETE");
+
+    private BenchmarkRequests() {
+    }
+
+    /**
+     * Returns the request for a size: {@code small} (no packages), {@code typical} (the usual service layers with
+     * GET and POST) or {@code maximal} (all 11 packages and all 4 APIs).
+     */
+    public static ProjectRequest of(String size) {
+        ProjectRequest request = new ProjectRequest();
+        request.setProjectName("bench-" + size);
+        request.setGroupName("com.example.bench");
+        request.setJavaVersion("17");
+        switch (size) {
+            case "small" -> {
+            }
+            case "typical" -> {
+                request.setPackages(Arrays.asList("controllers", "services", "repositories", "models", "exceptions"));
+                request.setApis(Arrays.asList("GET", "POST"));
+            }
+            case "maximal" -> {
+                request.setPackages(ALL_PACKAGES);
+                request.setApis(ALL_APIS);
+            }
+            default -> throw new IllegalArgumentException("Unknown request size: " + size);
+        }
+        return request;
+    }
+}
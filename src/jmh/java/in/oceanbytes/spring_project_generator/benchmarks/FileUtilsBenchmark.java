@@ -0,0 +1,117 @@
+package in.oceanbytes.spring_project_generator.benchmarks;
+
+import in.oceanbytes.spring_project_generator.generators.DirectoryEntryWriter;
+import in.oceanbytes.spring_project_generator.generators.ProjectLayout;
+import in.oceanbytes.spring_project_generator.generators.ProjectTemplates;
+import in.oceanbytes.spring_project_generator.generators.ScriptProjectGenerator;
+import in.oceanbytes.spring_project_generator.generators.TemplateProjectGenerator;
+import in.oceanbytes.spring_project_generator.models.ProjectRequest;
+import in.oceanbytes.spring_project_generator.utils.FileUtils;
+import in.oceanbytes.spring_project_generator.utils.ScriptUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The file-system steps of the generation pipeline in isolation, on project trees of each request size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileUtilsBenchmark {
+
+    @Param({"small", "typical", "maximal"})
+    public String size;
+
+    private Path workDir;
+    private File projectDir;
+    private File zipFile;
+    private File scriptsDir;
+
+    @Setup
+    public void setUp() throws IOException {
+        workDir = Files.createTempDirectory("jmh-fileutils");
+        projectDir = renderProject(size, workDir.resolve("source"));
+        zipFile = workDir.resolve("project.zip").toFile();
+        scriptsDir = Files.createDirectories(workDir.resolve("scripts")).toFile();
+    }
+
+    @TearDown
+    public void tearDown() {
+        FileUtils.deleteRecursively(workDir.toFile());
+    }
+
+    @Benchmark
+    public File zipDirectory() throws IOException {
+        FileUtils.zipDirectory(projectDir, zipFile);
+        return zipFile;
+    }
+
+    @Benchmark
+    public File extractScripts() throws IOException {
+        ScriptUtils.extractScriptsToTempDir(scriptsDir, ScriptProjectGenerator.SCRIPTS);
+        return scriptsDir;
+    }
+
+    // Deleting needs a fresh copy of the tree before every invocation.
+    @Benchmark
+    public void deleteRecursively(DeleteState state) {
+        FileUtils.deleteRecursively(state.copyDir.toFile());
+    }
+
+    @State(Scope.Thread)
+    public static class DeleteState {
+        private Path workDir;
+        private File projectDir;
+        private Path copyDir;
+
+        @Setup
+        public void setUp(FileUtilsBenchmark benchmark) throws IOException {
+            workDir = Files.createTempDirectory("jmh-delete");
+            projectDir = renderProject(benchmark.size, workDir.resolve("source"));
+        }
+
+        @Setup(Level.Invocation)
+        public void copyTree() throws IOException {
+            copyDir = workDir.resolve("copy");
+            Path source = projectDir.toPath();
+            try (var paths = Files.walk(source)) {
+                for (Path path : (Iterable<Path>) paths::iterator) {
+                    Files.copy(path, copyDir.resolve(source.relativize(path).toString()));
+                }
+            }
+        }
+
+        @TearDown
+        public void tearDown() {
+            FileUtils.deleteRecursively(workDir.toFile());
+        }
+    }
+
+    private static File renderProject(String size, Path targetDir) throws IOException {
+        Files.createDirectories(targetDir);
+        ProjectRequest request = BenchmarkRequests.of(size);
+        new TemplateProjectGenerator(new ProjectTemplates())
+                .render(ProjectLayout.of(request), new DirectoryEntryWriter(targetDir));
+        return targetDir.resolve(request.getProjectName()).toFile();
+    }
+}
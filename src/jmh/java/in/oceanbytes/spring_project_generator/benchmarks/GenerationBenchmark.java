@@ -0,0 +1,88 @@
+package in.oceanbytes.spring_project_generator.benchmarks;
+
+import in.oceanbytes.spring_project_generator.SpringProjectGeneratorApplication;
+import in.oceanbytes.spring_project_generator.models.ProjectRequest;
+import in.oceanbytes.spring_project_generator.services.ProjectService;
+import in.oceanbytes.spring_project_generator.storage.ArtifactStore;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * End-to-end generation through {@link ProjectService}, per engine and request size, with the archive cache
+ * disabled so every invocation really generates.
+ * <p>
+ * Generation runs on the generation executor, so {@code gc.alloc.rate.norm} only covers the calling thread;
+ * compare {@code gc.alloc.rate}, which is JVM-wide.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GenerationBenchmark {
+
+    @Param({"template", "script"})
+    public String engine;
+
+    @Param({"small", "typical", "maximal"})
+    public String size;
+
+    private ConfigurableApplicationContext context;
+    private ProjectService projectService;
+    private ArtifactStore artifactStore;
+    private ProjectRequest request;
+
+    @Setup
+    public void setUp() {
+        // Passed as arguments, since builder properties would not override application.yml.
+        context = new SpringApplicationBuilder(SpringProjectGeneratorApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run("--project.generator.engine=" + engine,
+                        "--project.generator.cache.enabled=false",
+                        "--delete-files-after-seconds=1",
+                        "--logging.level.root=WARN");
+        projectService = context.getBean(ProjectService.class);
+        artifactStore = context.getBean(ArtifactStore.class);
+        request = BenchmarkRequests.of(size);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    // Zip file on disk, as served with project.generator.streaming=false.
+    @Benchmark
+    public File generateProject() throws IOException, InterruptedException {
+        File zipFile = projectService.generateProject(request);
+        // Unpinned like a served download, so the store can expire it.
+        artifactStore.release(zipFile.toPath());
+        return zipFile;
+    }
+
+    // Archive streamed into the response, as served with project.generator.streaming=true.
+    @Benchmark
+    public void streamProject() throws IOException {
+        projectService.prepareStream(request).writeTo(OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,97 @@
+package in.oceanbytes.spring_project_generator.benchmarks;
+
+import in.oceanbytes.spring_project_generator.SpringProjectGeneratorApplication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Many concurrent HTTP clients against the script engine, whose generations mostly wait on a bash process, on
+ * platform threads (Tomcat's pool and a fixed generator pool) versus virtual threads. Both modes admit
+ * {@code concurrency} generations at once; compare throughput and the {@code platform threads} line printed at
+ * teardown. The {@code virtual} mode needs a JDK 21 runtime:
+ * <pre>
+ * mvn -P benchmarks,java21 -DskipTests compile exec:exec -Djmh.args="Threading"
+ * </pre>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 10)
+@Fork(1)
+@Threads(256)
+public class ThreadingBenchmark {
+
+    @Param({"platform", "virtual"})
+    public String threading;
+
+    @Param({"64", "256"})
+    public int concurrency;
+
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private String baseUrl;
+    private final AtomicInteger requests = new AtomicInteger();
+    private int peakThreads;
+
+    @Setup
+    public void setUp() {
+        boolean virtual = "virtual".equals(threading);
+        if (virtual && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("Virtual threads need a Java 21 runtime, running " + Runtime.version());
+        }
+        context = new SpringApplicationBuilder(SpringProjectGeneratorApplication.class)
+                .logStartupInfo(false)
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtual,
+                        "--server.tomcat.threads.max=" + concurrency,
+                        "--project.generator.engine=script",
+                        "--project.generator.cache.enabled=false",
+                        "--project.generator.executor.threads=" + concurrency,
+                        "--project.generator.executor.queue-capacity=1024",
+                        "--delete-files-after-seconds=1",
+                        "--logging.level.root=WARN");
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                + "/api/spring-project-generator/v1/generate?groupName=com.example&packages=controllers&apis=GET&projectName=";
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    }
+
+    @TearDown
+    public void tearDown() {
+        System.out.println("platform threads: peak " + peakThreads);
+        context.close();
+    }
+
+    @Benchmark
+    public int generate() throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "load-" + requests.incrementAndGet())).build();
+        HttpResponse<byte[]> response = client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("HTTP " + response.statusCode());
+        }
+        peakThreads = Math.max(peakThreads, ManagementFactory.getThreadMXBean().getPeakThreadCount());
+        return response.body().length;
+    }
+}
@@ -0,0 +1,79 @@
+package in.oceanbytes.spring_project_generator.benchmarks;
+
+import in.oceanbytes.spring_project_generator.SpringProjectGeneratorApplication;
+import in.oceanbytes.spring_project_generator.models.ProjectRequest;
+import in.oceanbytes.spring_project_generator.services.ProjectService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Streamed template generation with and without the zip entry pool, from several threads at once, with the
+ * archive cache disabled. {@code shared} repeats one request, so every file is a pool candidate; {@code distinct}
+ * gives each request its own group, like real traffic, so only the request-independent files repeat.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class ZipEntryPoolBenchmark {
+
+    @Param({"true", "false"})
+    public boolean pool;
+
+    @Param({"shared", "distinct"})
+    public String traffic;
+
+    private final AtomicLong groups = new AtomicLong();
+
+    private ConfigurableApplicationContext context;
+    private ProjectService projectService;
+
+    @Setup
+    public void setUp() {
+        // Passed as arguments, since builder properties would not override application.yml.
+        context = new SpringApplicationBuilder(SpringProjectGeneratorApplication.class)
+                .web(WebApplicationType.NONE)
+                .logStartupInfo(false)
+                .run("--project.generator.engine=template",
+                        "--project.generator.cache.enabled=false",
+                        "--project.generator.zip.pool.enabled=" + pool,
+                        "--logging.level.root=WARN");
+        projectService = context.getBean(ProjectService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void streamProject() throws IOException {
+        ProjectRequest request = BenchmarkRequests.of("typical");
+        if ("distinct".equals(traffic)) {
+            request.setGroupName("com.example.group" + groups.incrementAndGet());
+        }
+        projectService.prepareStream(request).writeTo(OutputStream.nullOutputStream());
+    }
+}
@@ -0,0 +1,263 @@
+package in.oceanbytes.spring_project_generator.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import in.oceanbytes.spring_project_generator.SpringProjectGeneratorApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load test of {@code /api/spring-project-generator/v1/generate}: boots the application on a random port,
+ * then for each rate sends requests on a fixed schedule whatever the server's response times (so overload shows as
+ * latency and errors, not as a lower send rate), drawing request shapes from a weighted mix. Reports throughput,
+ * p50/p95/p99/max latency, error rate and peak disk use of the artifacts directory per rate, writes them to
+ * {@code target/loadtest-result.json} and exits with 1 when a threshold is crossed:
+ * <pre>
+ * mvn -P loadtest -DskipTests verify -Dloadtest.args="--rates=20,50 --duration=30 -- --project.generator.streaming=false"
+ * </pre>
+ */
+public final class LoadTest {
+
+    private static final String ALL_PACKAGES = "controllers,services,repositories,models,exceptions,config,common,constants,aspects,entities,utils";
+    private static final long DISK_SAMPLE_MILLIS = 100;
+
+    private final LoadTestOptions options;
+    private final HttpClient client;
+    private final Random random;
+    private final List<String> shapes = new ArrayList<>();
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong peakDiskBytes = new AtomicLong();
+    private String baseUrl;
+    private Path artifactsDir;
+
+    private LoadTest(LoadTestOptions options) {
+        this.options = options;
+        this.client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).connectTimeout(Duration.ofSeconds(5)).build();
+        this.random = new Random(options.seed);
+        // One entry per unit of weight, so a uniform draw follows the mix.
+        options.mix.forEach((shape, weight) -> shapes.addAll(Collections.nCopies(weight, query(shape))));
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.parse(args);
+        // A random port and quiet logs, unless the application arguments say otherwise.
+        List<String> appArgs = new ArrayList<>(options.appArgs);
+        addDefault(appArgs, "server.port", "0");
+        addDefault(appArgs, "logging.level.root", "WARN");
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(SpringProjectGeneratorApplication.class)
+                .logStartupInfo(false)
+                .run(appArgs.toArray(new String[0]));
+        List<String> failures;
+        try {
+            failures = new LoadTest(options).run(context);
+        } finally {
+            context.close();
+        }
+        if (!failures.isEmpty()) {
+            failures.forEach(failure -> System.out.println("FAILED: " + failure));
+            System.exit(1);
+        }
+        System.out.println("Load test passed.");
+    }
+
+    private static void addDefault(List<String> appArgs, String name, String value) {
+        if (appArgs.stream().noneMatch(arg -> arg.startsWith("--" + name + "="))) {
+            appArgs.add("--" + name + "=" + value);
+        }
+    }
+
+    private List<String> run(ConfigurableApplicationContext context) throws IOException, InterruptedException {
+        baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port")
+                + "/api/spring-project-generator/v1/generate";
+        artifactsDir = Paths.get(context.getEnvironment().getProperty("project.generator.artifacts.dir", "target/generated-projects"));
+
+        ScheduledExecutorService diskSampler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "disk-sampler");
+            thread.setDaemon(true);
+            return thread;
+        });
+        diskSampler.scheduleAtFixedRate(() -> peakDiskBytes.accumulateAndGet(diskUsage(), Math::max),
+                0, DISK_SAMPLE_MILLIS, TimeUnit.MILLISECONDS);
+
+        List<StepResult> results = new ArrayList<>();
+        try {
+            if (options.warmupSeconds > 0) {
+                System.out.printf("Warm-up: %d req/s for %ds%n", options.rates.get(0), options.warmupSeconds);
+                runStep(options.rates.get(0), options.warmupSeconds);
+            }
+            System.out.printf("%8s %8s %8s %8s %10s %9s %9s %9s %9s %12s%n",
+                    "rate", "sent", "ok", "errors", "thruput/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "peak disk");
+            for (int rate : options.rates) {
+                StepResult result = runStep(rate, options.durationSeconds);
+                results.add(result);
+                System.out.printf("%8d %8d %8d %8d %10.1f %9.1f %9.1f %9.1f %9.1f %12d%n",
+                        result.rate, result.sent, result.succeeded, result.failed, result.throughput,
+                        result.p50Millis, result.p95Millis, result.p99Millis, result.maxMillis, result.peakDiskBytes);
+            }
+        } finally {
+            diskSampler.shutdownNow();
+        }
+
+        writeReport(results);
+        return check(results);
+    }
+
+    /**
+     * Sends {@code rate * seconds} requests, each at its scheduled time, and waits for all of them to finish.
+     */
+    private StepResult runStep(int rate, long seconds) throws InterruptedException {
+        int count = (int) (rate * seconds);
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / rate;
+        long[] latencies = new long[count];
+        LongAdder succeeded = new LongAdder();
+        Map<Integer, LongAdder> failures = new ConcurrentHashMap<>();
+        List<CompletableFuture<?>> inFlight = new ArrayList<>(count);
+        peakDiskBytes.set(diskUsage());
+
+        long start = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            long due = start + i * intervalNanos;
+            long wait = due - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            int index = i;
+            HttpRequest request = HttpRequest.newBuilder(URI.create(nextUrl()))
+                    .timeout(Duration.ofSeconds(options.timeoutSeconds))
+                    .build();
+            inFlight.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        latencies[index] = System.nanoTime() - due;
+                        if (error == null && response.statusCode() == 200) {
+                            succeeded.increment();
+                        } else {
+                            failures.computeIfAbsent(error == null ? response.statusCode() : 0, status -> new LongAdder()).increment();
+                        }
+                    }));
+        }
+        try {
+            CompletableFuture.allOf(inFlight.toArray(new CompletableFuture<?>[0])).join();
+        } catch (RuntimeException e) {
+            // Failed requests are already counted.
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Map<Integer, Long> failureCounts = new LinkedHashMap<>();
+        failures.forEach((status, adder) -> failureCounts.put(status, adder.sum()));
+        return new StepResult(rate, latencies, succeeded.sum(), failureCounts, elapsed, peakDiskBytes.get());
+    }
+
+    private String nextUrl() {
+        String shape = shapes.get(random.nextInt(shapes.size()));
+        String projectName = options.uniqueNames ? "load-" + requestCount.incrementAndGet() : "load";
+        return baseUrl + "?projectName=" + projectName + "&groupName=com.example.load&javaVersion=17" + shape;
+    }
+
+    // Same sizes as the JMH benchmarks: small (no packages), typical, maximal (all packages and APIs).
+    private static String query(String shape) {
+        return switch (shape) {
+            case "small" -> "";
+            case "typical" -> "&packages=controllers,services,repositories,models,exceptions&apis=GET,POST";
+            case "maximal" -> "&packages=" + ALL_PACKAGES + "&apis=GET,POST,PUT,DELETE";
+            default -> throw new IllegalArgumentException("Unknown request shape: " + shape);
+        };
+    }
+
+    // Sum of file sizes under the artifacts directory; files deleted while walking are skipped.
+    private long diskUsage() {
+        if (!Files.isDirectory(artifactsDir)) {
+            return 0;
+        }
+        long[] total = {0};
+        try {
+            Files.walkFileTree(artifactsDir, new SimpleFileVisitor<>() {
+                @Override
+                public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                    total[0] += attributes.size();
+                    return FileVisitResult.CONTINUE;
+                }
+
+                @Override
+                public FileVisitResult visitFileFailed(Path file, IOException e) {
+                    return FileVisitResult.CONTINUE;
+                }
+            });
+        } catch (IOException e) {
+            // Keep the partial sum.
+        }
+        return total[0];
+    }
+
+    private void writeReport(List<StepResult> results) throws IOException {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("durationSeconds", options.durationSeconds);
+        report.put("mix", options.mix);
+        report.put("uniqueNames", options.uniqueNames);
+        report.put("appArgs", options.appArgs);
+        report.put("steps", results.stream().map(StepResult::toMap).toList());
+        if (options.report.getParent() != null) {
+            Files.createDirectories(options.report.getParent());
+        }
+        new ObjectMapper().writerWithDefaultPrettyPrinter().writeValue(options.report.toFile(), report);
+        System.out.println("Report written to " + options.report);
+    }
+
+    private List<String> check(List<StepResult> results) throws IOException {
+        List<String> failures = new ArrayList<>();
+        for (StepResult result : results) {
+            if (options.maxP99Millis > 0 && result.p99Millis > options.maxP99Millis) {
+                failures.add(String.format("%d req/s: p99 %.1f ms above %d ms", result.rate, result.p99Millis, options.maxP99Millis));
+            }
+            if (options.maxErrorRate >= 0 && result.errorRate() > options.maxErrorRate) {
+                failures.add(String.format("%d req/s: error rate %.4f above %.4f %s", result.rate, result.errorRate(),
+                        options.maxErrorRate, result.failures));
+            }
+        }
+        if (options.baseline != null) {
+            JsonNode baseline = new ObjectMapper().readTree(options.baseline.toFile());
+            for (JsonNode step : baseline.path("steps")) {
+                int rate = step.path("rate").asInt();
+                results.stream().filter(result -> result.rate == rate).findFirst().ifPresent(result -> {
+                    double p99Limit = step.path("p99Millis").asDouble() * (1 + options.maxRegression);
+                    double throughputLimit = step.path("throughput").asDouble() * (1 - options.maxRegression);
+                    if (result.p99Millis > p99Limit) {
+                        failures.add(String.format("%d req/s: p99 %.1f ms regressed beyond %.1f ms (baseline %.1f ms)",
+                                rate, result.p99Millis, p99Limit, step.path("p99Millis").asDouble()));
+                    }
+                    if (result.throughput < throughputLimit) {
+                        failures.add(String.format("%d req/s: throughput %.1f/s regressed below %.1f/s (baseline %.1f/s)",
+                                rate, result.throughput, throughputLimit, step.path("throughput").asDouble()));
+                    }
+                });
+            }
+        }
+        return failures;
+    }
+}
@@ -0,0 +1,85 @@
+package in.oceanbytes.spring_project_generator.loadtest;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command line of {@link LoadTest}: {@code --name=value} options, then optionally {@code --} followed by arguments
+ * for the application under test (e.g. {@code --project.generator.engine=script}).
+ */
+final class LoadTestOptions {
+
+    // Offered request rates (requests per second), one measured step each.
+    List<Integer> rates = Arrays.asList(10, 20, 40);
+    long durationSeconds = 15;
+    // Run at the first rate before measuring, to get the JIT and caches going; not reported.
+    long warmupSeconds = 5;
+    // Request shapes and their weights in the traffic mix.
+    Map<String, Integer> mix = new LinkedHashMap<>();
+    // A fresh project name per request, so the archive cache cannot answer (false measures the cached path).
+    boolean uniqueNames = true;
+    long timeoutSeconds = 30;
+    long seed = 42;
+
+    // Thresholds that fail the run; 0 or negative disables a check.
+    long maxP99Millis = 2000;
+    double maxErrorRate = 0.01;
+    // Compare against an earlier report: p99 may rise and throughput may drop by at most this fraction.
+    Path baseline;
+    double maxRegression = 0.25;
+
+    Path report = Paths.get("target/loadtest-result.json");
+    List<String> appArgs = new ArrayList<>();
+
+    LoadTestOptions() {
+        mix.put("small", 6);
+        mix.put("typical", 3);
+        mix.put("maximal", 1);
+    }
+
+    static LoadTestOptions parse(String[] args) {
+        LoadTestOptions options = new LoadTestOptions();
+        for (int i = 0; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.equals("--")) {
+                options.appArgs.addAll(Arrays.asList(args).subList(i + 1, args.length));
+                break;
+            }
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            options.set(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return options;
+    }
+
+    private void set(String name, String value) {
+        switch (name) {
+            case "rates" -> rates = Arrays.stream(value.split(",")).map(String::trim).map(Integer::valueOf).toList();
+            case "duration" -> durationSeconds = Long.parseLong(value);
+            case "warmup" -> warmupSeconds = Long.parseLong(value);
+            case "mix" -> {
+                mix = new LinkedHashMap<>();
+                for (String entry : value.split(",")) {
+                    String[] parts = entry.trim().split(":");
+                    mix.put(parts[0], parts.length > 1 ? Integer.parseInt(parts[1]) : 1);
+                }
+            }
+            case "unique-names" -> uniqueNames = Boolean.parseBoolean(value);
+            case "timeout" -> timeoutSeconds = Long.parseLong(value);
+            case "seed" -> seed = Long.parseLong(value);
+            case "max-p99-ms" -> maxP99Millis = Long.parseLong(value);
+            case "max-error-rate" -> maxErrorRate = Double.parseDouble(value);
+            case "baseline" -> baseline = value.isBlank() ? null : Paths.get(value);
+            case "max-regression" -> maxRegression = Double.parseDouble(value);
+            case "report" -> report = Paths.get(value);
+            default -> throw new IllegalArgumentException("Unknown option --" + name);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package in.oceanbytes.spring_project_generator.loadtest;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outcome of one fixed-rate step. Latencies run from the moment a request was due, not from when it was actually
+ * sent, so a server that falls behind shows up in the percentiles instead of silently lowering the offered load.
+ */
+final class StepResult {
+
+    final int rate;
+    final long sent;
+    final long succeeded;
+    final long failed;
+    // Failures by HTTP status; 0 stands for timeouts and connection errors.
+    final Map<Integer, Long> failures;
+    final double throughput;
+    final double p50Millis;
+    final double p95Millis;
+    final double p99Millis;
+    final double maxMillis;
+    final long peakDiskBytes;
+
+    StepResult(int rate, long[] latencyNanos, long succeeded, Map<Integer, Long> failures, long elapsedNanos, long peakDiskBytes) {
+        this.rate = rate;
+        this.sent = latencyNanos.length;
+        this.succeeded = succeeded;
+        this.failures = new TreeMap<>(failures);
+        this.failed = failures.values().stream().mapToLong(Long::longValue).sum();
+        this.throughput = succeeded / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1));
+        long[] sorted = latencyNanos.clone();
+        Arrays.sort(sorted);
+        this.p50Millis = percentile(sorted, 0.50);
+        this.p95Millis = percentile(sorted, 0.95);
+        this.p99Millis = percentile(sorted, 0.99);
+        this.maxMillis = sorted.length == 0 ? 0 : toMillis(sorted[sorted.length - 1]);
+        this.peakDiskBytes = peakDiskBytes;
+    }
+
+    double errorRate() {
+        return sent == 0 ? 0 : (double) failed / sent;
+    }
+
+    Map<String, Object> toMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("rate", rate);
+        map.put("sent", sent);
+        map.put("succeeded", succeeded);
+        map.put("failed", failed);
+        map.put("failures", failures);
+        map.put("errorRate", errorRate());
+        map.put("throughput", throughput);
+        map.put("p50Millis", p50Millis);
+        map.put("p95Millis", p95Millis);
+        map.put("p99Millis", p99Millis);
+        map.put("maxMillis", maxMillis);
+        map.put("peakDiskBytes", peakDiskBytes);
+        return map;
+    }
+
+    // Nearest-rank percentile.
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(quantile * sorted.length);
+        return toMillis(sorted[Math.max(rank, 1) - 1]);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
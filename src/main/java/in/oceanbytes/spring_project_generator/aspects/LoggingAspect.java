@@ -6,14 +6,21 @@ import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.lang.invoke.MethodHandles;
 
+/**
+ * Verbose call logging for debugging: every endpoint and every service method, at INFO. Off by default; production
+ * request logging is sampled by {@link SampledRequestLogger}. With Spring AOT (the startup image) the property is
+ * read at build time, see {@code startup.logging-aspect} in the pom.
+ */
 @Aspect
 @Component("webLoggingAspect")
+@ConditionalOnProperty(name = "project.generator.instrumentation.logging-aspect", havingValue = "true")
 public class LoggingAspect {
     private static final Logger LOGGER = LoggerFactory.getLogger(MethodHandles.lookup().lookupClass());
 
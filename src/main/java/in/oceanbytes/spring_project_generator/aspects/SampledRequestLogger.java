@@ -0,0 +1,76 @@
+package in.oceanbytes.spring_project_generator.aspects;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
+import org.slf4j.spi.LoggingEventBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logs one structured line per request for a random sample of requests, and always for failed or slow ones.
+ * Latency histograms and error counts per endpoint come from the {@code http.server.requests} metric; this only
+ * adds the per-request detail, at a cost of one nanoTime and one random number for requests that are not logged.
+ * <p>
+ * The fields are attached as SLF4J key-value pairs, so they become JSON fields with
+ * {@code logging.structured.format.console} set, and are repeated in the message for plain-text logs.
+ */
+@Component
+public class SampledRequestLogger implements HandlerInterceptor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SampledRequestLogger.class);
+
+    private static final String START_ATTRIBUTE = SampledRequestLogger.class.getName() + ".start";
+
+    // Fraction of requests logged in detail, from 0.0 (only failed and slow ones) to 1.0 (all).
+    @Value("${project.generator.instrumentation.sample-rate:0.01}")
+    private double sampleRate;
+
+    @Value("${project.generator.instrumentation.slow-threshold-ms:1000}")
+    private long slowThresholdMs;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // Asynchronous requests (streamed archives) pass here again on the async dispatch; keep the first start.
+        if (request.getAttribute(START_ATTRIBUTE) == null) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object start = request.getAttribute(START_ATTRIBUTE);
+        if (start == null) {
+            return;
+        }
+        long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - (Long) start);
+        int status = response.getStatus();
+        boolean failed = ex != null || status >= 500;
+        boolean slow = durationMs >= slowThresholdMs;
+        if (!failed && !slow && ThreadLocalRandom.current().nextDouble() >= sampleRate) {
+            return;
+        }
+
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String endpoint = pattern != null ? pattern.toString() : request.getRequestURI();
+        String reason = failed ? "failed" : slow ? "slow" : "sampled";
+        LoggingEventBuilder event = LOGGER.atLevel(failed ? Level.WARN : Level.INFO)
+                .addKeyValue("method", request.getMethod())
+                .addKeyValue("endpoint", endpoint)
+                .addKeyValue("status", status)
+                .addKeyValue("duration_ms", durationMs)
+                .addKeyValue("reason", reason);
+        if (ex != null) {
+            event = event.addKeyValue("exception", ex.getClass().getSimpleName());
+        }
+        event.log("{} {} -> {} in {} ms ({})", request.getMethod(), endpoint, status, durationMs, reason);
+    }
+}
@@ -0,0 +1,302 @@
+package in.oceanbytes.spring_project_generator.cache;
+
+import in.oceanbytes.spring_project_generator.generators.ProjectTemplates;
+import in.oceanbytes.spring_project_generator.generators.ScriptProjectGenerator;
+import in.oceanbytes.spring_project_generator.utils.ChecksumUtils;
+import in.oceanbytes.spring_project_generator.utils.FileUtils;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed cache of finished project archives, keyed by {@link in.oceanbytes.spring_project_generator.models.ProjectRequest#toKey()}
+ * of a normalized request together with the engine and workspace mode that generated the archive.
+ * <p>
+ * Archives are kept in a byte-budgeted LRU memory tier, backed by a byte-budgeted LRU disk tier. Disk entries live
+ * under a directory named after a fingerprint of the bundled templates and scripts, so editing any of them
+ * invalidates everything cached by an older build.
+ */
+@Component
+public class ArchiveCache {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArchiveCache.class);
+
+    // Bumped whenever the archive bytes change for the same templates, so older cached archives are dropped.
+    private static final String ARCHIVE_FORMAT = "-r1";
+
+    @Value("${project.generator.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${project.generator.cache.max-memory-bytes:67108864}")
+    private long maxMemoryBytes;
+
+    @Value("${project.generator.cache.max-disk-bytes:268435456}")
+    private long maxDiskBytes;
+
+    // Larger archives are served but never cached.
+    @Value("${project.generator.cache.max-entry-bytes:4194304}")
+    private long maxEntryBytes;
+
+    @Value("${project.generator.cache.disk-dir:target/archive-cache}")
+    private String diskRoot;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // Access-ordered maps: iteration starts at the least recently used entry.
+    private final LinkedHashMap<String, byte[]> memory = new LinkedHashMap<>(16, 0.75f, true);
+    // Disk entries are keyed by file name (the hash of the cache key), so they can be re-indexed after a restart.
+    private final LinkedHashMap<String, Long> disk = new LinkedHashMap<>(16, 0.75f, true);
+    private long memoryBytes;
+    private long diskBytes;
+
+    private final LongAdder memoryHits = new LongAdder();
+    private final LongAdder diskHits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder memoryEvictions = new LongAdder();
+    private final LongAdder diskEvictions = new LongAdder();
+
+    private String fingerprint;
+    private Path diskDir;
+
+    public ArchiveCache(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        List<String> resources = new ArrayList<>(ProjectTemplates.resourcePaths());
+        for (String script : ScriptProjectGenerator.SCRIPTS) {
+            resources.add("/scripts/" + script);
+        }
+        fingerprint = ChecksumUtils.classpathFingerprint(resources) + ARCHIVE_FORMAT;
+        LOGGER.info("Archive cache enabled={}, template fingerprint {}", enabled, fingerprint);
+
+        if (enabled && maxDiskBytes > 0) {
+            Path root = Paths.get(diskRoot);
+            diskDir = root.resolve(fingerprint);
+            Files.createDirectories(diskDir);
+            removeStaleGenerations(root);
+            indexDiskEntries();
+        }
+        registerMetrics();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long getMaxEntryBytes() {
+        return maxEntryBytes;
+    }
+
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Returns the cached archive for the key, or {@code null} on a miss.
+     */
+    public byte[] get(String key) {
+        if (!enabled) {
+            return null;
+        }
+        String fileName = diskName(key);
+        boolean onDisk;
+        lock.lock();
+        try {
+            byte[] archive = memory.get(key);
+            if (archive != null) {
+                memoryHits.increment();
+                return archive;
+            }
+            onDisk = disk.get(fileName) != null;
+        } finally {
+            lock.unlock();
+        }
+
+        if (onDisk) {
+            try {
+                byte[] archive = Files.readAllBytes(diskDir.resolve(fileName));
+                diskHits.increment();
+                putInMemory(key, archive);
+                return archive;
+            } catch (IOException e) {
+                LOGGER.warn("Dropping unreadable cache entry {}: {}", key, e.getMessage());
+                removeFromDisk(fileName);
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Whether an archive is cached for the key, in either tier. Not counted as a hit or miss.
+     */
+    public boolean contains(String key) {
+        if (!enabled) {
+            return false;
+        }
+        lock.lock();
+        try {
+            return memory.containsKey(key) || disk.containsKey(diskName(key));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void put(String key, byte[] archive) {
+        if (!enabled || archive.length > maxEntryBytes) {
+            return;
+        }
+        putOnDisk(key, archive);
+        putInMemory(key, archive);
+    }
+
+    private void putInMemory(String key, byte[] archive) {
+        if (archive.length > maxMemoryBytes) {
+            return;
+        }
+        lock.lock();
+        try {
+            byte[] previous = memory.put(key, archive);
+            memoryBytes += archive.length - (previous == null ? 0 : previous.length);
+            Iterator<Map.Entry<String, byte[]>> eldest = memory.entrySet().iterator();
+            while (memoryBytes > maxMemoryBytes && eldest.hasNext()) {
+                memoryBytes -= eldest.next().getValue().length;
+                eldest.remove();
+                memoryEvictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void putOnDisk(String key, byte[] archive) {
+        if (diskDir == null || archive.length > maxDiskBytes) {
+            return;
+        }
+        String fileName = diskName(key);
+        Path target = diskDir.resolve(fileName);
+        try {
+            // Write to a temp file and move it in place, so readers never see a partial archive.
+            Path temp = Files.createTempFile(diskDir, "entry_", ".tmp");
+            Files.write(temp, archive);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.warn("Could not write cache entry {}: {}", target, e.getMessage());
+            return;
+        }
+
+        List<String> evicted = new ArrayList<>();
+        lock.lock();
+        try {
+            Long previous = disk.put(fileName, (long) archive.length);
+            diskBytes += archive.length - (previous == null ? 0 : previous);
+            Iterator<Map.Entry<String, Long>> eldest = disk.entrySet().iterator();
+            while (diskBytes > maxDiskBytes && eldest.hasNext()) {
+                Map.Entry<String, Long> entry = eldest.next();
+                diskBytes -= entry.getValue();
+                evicted.add(entry.getKey());
+                eldest.remove();
+                diskEvictions.increment();
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (String evictedName : evicted) {
+            deleteQuietly(diskDir.resolve(evictedName));
+        }
+    }
+
+    private void removeFromDisk(String fileName) {
+        lock.lock();
+        try {
+            Long size = disk.remove(fileName);
+            if (size != null) {
+                diskBytes -= size;
+            }
+        } finally {
+            lock.unlock();
+        }
+        deleteQuietly(diskDir.resolve(fileName));
+    }
+
+    private static String diskName(String key) {
+        return ChecksumUtils.sha256Hex(key) + ".zip";
+    }
+
+    private void removeStaleGenerations(Path root) throws IOException {
+        try (Stream<Path> generations = Files.list(root)) {
+            generations.filter(path -> Files.isDirectory(path) && !path.equals(diskDir))
+                    .forEach(path -> {
+                        LOGGER.info("Removing archive cache built from other templates: {}", path);
+                        FileUtils.deleteRecursively(path.toFile());
+                    });
+        }
+    }
+
+    // Entries from a previous run with the same templates stay valid; index them oldest first.
+    private void indexDiskEntries() throws IOException {
+        List<File> files = new ArrayList<>();
+        try (Stream<Path> entries = Files.list(diskDir)) {
+            entries.map(Path::toFile).forEach(file -> {
+                if (file.getName().endsWith(".zip")) {
+                    files.add(file);
+                } else {
+                    deleteQuietly(file.toPath());
+                }
+            });
+        }
+        files.sort(Comparator.comparingLong(File::lastModified));
+        lock.lock();
+        try {
+            for (File file : files) {
+                disk.put(file.getName(), file.length());
+                diskBytes += file.length();
+            }
+        } finally {
+            lock.unlock();
+        }
+        LOGGER.info("Indexed {} cached archives ({} bytes) from {}", files.size(), diskBytes, diskDir);
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to delete cache file {}: {}", path, e.getMessage());
+        }
+    }
+
+    private void registerMetrics() {
+        FunctionCounter.builder("generator.cache.requests", memoryHits, LongAdder::sum).tag("result", "memory_hit").register(meterRegistry);
+        FunctionCounter.builder("generator.cache.requests", diskHits, LongAdder::sum).tag("result", "disk_hit").register(meterRegistry);
+        FunctionCounter.builder("generator.cache.requests", misses, LongAdder::sum).tag("result", "miss").register(meterRegistry);
+        FunctionCounter.builder("generator.cache.evictions", memoryEvictions, LongAdder::sum).tag("tier", "memory").register(meterRegistry);
+        FunctionCounter.builder("generator.cache.evictions", diskEvictions, LongAdder::sum).tag("tier", "disk").register(meterRegistry);
+        Gauge.builder("generator.cache.size", this, cache -> cache.memoryBytes).tag("tier", "memory").baseUnit("bytes").register(meterRegistry);
+        Gauge.builder("generator.cache.size", this, cache -> cache.diskBytes).tag("tier", "disk").baseUnit("bytes").register(meterRegistry);
+    }
+}
@@ -0,0 +1,120 @@
+package in.oceanbytes.spring_project_generator.cache;
+
+import in.oceanbytes.spring_project_generator.config.PrewarmProperties;
+import in.oceanbytes.spring_project_generator.models.ProjectRequest;
+import in.oceanbytes.spring_project_generator.utils.TopKSketch;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Tracks how often each normalized request is asked for, in a {@link TopKSketch}, and which cached archives were
+ * pre-generated rather than generated for a client, so that the share of lookups answered by pre-generation can be
+ * measured.
+ */
+@Component
+public class PopularityTracker {
+
+    private final PrewarmProperties properties;
+    private final MeterRegistry meterRegistry;
+    private final TopKSketch<ProjectRequest> sketch;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // Insertion-ordered and bounded: the oldest pre-generated keys are forgotten first.
+    private final LinkedHashMap<String, Boolean> prewarmed = new LinkedHashMap<>();
+    private final int maxPrewarmed;
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder warmHits = new LongAdder();
+    private final LongAdder generated = new LongAdder();
+
+    public PopularityTracker(PrewarmProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        this.sketch = new TopKSketch<>(properties.getTopK(), properties.getSketchWidth());
+        this.maxPrewarmed = 4 * properties.getTopK() + properties.getRequests().size();
+    }
+
+    @PostConstruct
+    public void init() {
+        FunctionCounter.builder("generator.prewarm.requests", lookups, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("generator.prewarm.hits", warmHits, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("generator.prewarm.generated", generated, LongAdder::sum).register(meterRegistry);
+        Gauge.builder("generator.prewarm.hit.ratio", this, PopularityTracker::hitRatio).register(meterRegistry);
+        // The hot set by rank; shapes contain project names, which are too many for a tag.
+        for (int rank = 1; rank <= properties.getTopK(); rank++) {
+            int index = rank - 1;
+            Gauge.builder("generator.prewarm.hot", this, tracker -> tracker.estimateAt(index))
+                    .tag("rank", String.valueOf(rank))
+                    .description("Estimated recent requests of the rank-th most frequent request shape")
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Counts one cache lookup for the normalized request, and whether a pre-generated archive answered it.
+     */
+    public void recordLookup(ProjectRequest request, String key, boolean hit) {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        lookups.increment();
+        sketch.add(key, () -> request);
+        if (hit && isPrewarmed(key)) {
+            warmHits.increment();
+        }
+    }
+
+    /**
+     * The most frequent request shapes, most frequent first.
+     */
+    public List<TopKSketch.Candidate<ProjectRequest>> hottest() {
+        return sketch.top();
+    }
+
+    public void markPrewarmed(String key) {
+        generated.increment();
+        lock.lock();
+        try {
+            prewarmed.put(key, Boolean.TRUE);
+            Iterator<String> eldest = prewarmed.keySet().iterator();
+            while (prewarmed.size() > maxPrewarmed && eldest.hasNext()) {
+                eldest.next();
+                eldest.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void decay() {
+        sketch.decay();
+    }
+
+    private boolean isPrewarmed(String key) {
+        lock.lock();
+        try {
+            return prewarmed.containsKey(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private double hitRatio() {
+        long total = lookups.sum();
+        return total == 0 ? 0 : (double) warmHits.sum() / total;
+    }
+
+    private long estimateAt(int index) {
+        List<TopKSketch.Candidate<ProjectRequest>> top = sketch.top();
+        return index < top.size() ? top.get(index).getEstimate() : 0;
+    }
+}
@@ -0,0 +1,78 @@
+package in.oceanbytes.spring_project_generator.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Byte-budgeted LRU cache of rendered preview files. Keys identify a template and the values of the variables it
+ * uses, so a file is shared by every request that renders it identically (e.g. the same package name).
+ */
+@Component
+public class PreviewCache {
+
+    @Value("${project.generator.preview.cache-max-bytes:4194304}")
+    private long maxBytes;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // Access-ordered: iteration starts at the least recently used entry.
+    private final LinkedHashMap<String, byte[]> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public PreviewCache(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        FunctionCounter.builder("generator.preview.cache.requests", hits, LongAdder::sum).tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("generator.preview.cache.requests", misses, LongAdder::sum).tag("result", "miss").register(meterRegistry);
+        Gauge.builder("generator.preview.cache.size", this, cache -> cache.bytes).baseUnit("bytes").register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached file, or {@code null} on a miss.
+     */
+    public byte[] get(String key) {
+        lock.lock();
+        try {
+            byte[] content = entries.get(key);
+            (content != null ? hits : misses).increment();
+            return content;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void put(String key, byte[] content) {
+        if (content.length > maxBytes) {
+            return;
+        }
+        lock.lock();
+        try {
+            byte[] previous = entries.put(key, content);
+            bytes += content.length - (previous == null ? 0 : previous.length);
+            Iterator<Map.Entry<String, byte[]>> eldest = entries.entrySet().iterator();
+            while (bytes > maxBytes && eldest.hasNext()) {
+                bytes -= eldest.next().getValue().length;
+                eldest.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
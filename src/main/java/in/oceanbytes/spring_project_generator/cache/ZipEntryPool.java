@@ -0,0 +1,161 @@
+package in.oceanbytes.spring_project_generator.cache;
+
+import in.oceanbytes.spring_project_generator.utils.ZipArchiveEntry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool of precompressed zip entries, keyed by file content and compression level. Some files of a generated project
+ * repeat across requests, so their deflated data, CRC and sizes are reused: {@code .gitignore} in every project, and
+ * the fixed classes ({@code ServiceException}, {@code ErrorDetails}, {@code GlobalExceptionHandler},
+ * {@code LoggingAspect}, {@code ApplicationConstants}), which only embed the base package, in every project of the
+ * same group and name whatever its APIs or Java version. The application class, controllers, {@code pom.xml} and
+ * {@code application.yml} embed more of the request and are mostly unique to a request shape.
+ * <p>
+ * Content is admitted on its second sighting only, so one-off files never displace the entries that are shared. The
+ * first sighting is remembered as a 64-bit fingerprint in a fixed table; a colliding fingerprint merely admits an
+ * entry early. Lookups take no lock. Once the byte budget, which covers both the content kept for comparison and the
+ * compressed data, is exceeded, entries not used since the previous sweep are evicted (CLOCK, an approximate LRU).
+ */
+@Component
+public class ZipEntryPool {
+
+    // Fingerprints of content seen once; must be a power of two.
+    private static final int SIGHTINGS = 4096;
+
+    @Value("${project.generator.zip.pool.enabled:true}")
+    private boolean enabled;
+
+    @Value("${project.generator.zip.pool.max-bytes:8388608}")
+    private long maxBytes;
+
+    // Larger files are always compressed per request.
+    @Value("${project.generator.zip.pool.max-entry-bytes:262144}")
+    private long maxEntryBytes;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ConcurrentHashMap<ContentKey, PooledEntry> entries = new ConcurrentHashMap<>();
+    private final AtomicLongArray sightings = new AtomicLongArray(SIGHTINGS);
+    private final AtomicLong bytes = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ZipEntryPool(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        FunctionCounter.builder("generator.zip.pool.requests", hits, LongAdder::sum).tag("result", "hit").register(meterRegistry);
+        FunctionCounter.builder("generator.zip.pool.requests", misses, LongAdder::sum).tag("result", "miss").register(meterRegistry);
+        FunctionCounter.builder("generator.zip.pool.evictions", evictions, LongAdder::sum).register(meterRegistry);
+        Gauge.builder("generator.zip.pool.size", bytes, AtomicLong::get).baseUnit("bytes").register(meterRegistry);
+    }
+
+    /**
+     * Returns a file entry for the content, reusing pooled compressed data when the same content was compressed
+     * at the same level before. Safe to call concurrently.
+     */
+    public ZipArchiveEntry file(String name, byte[] content, int level) {
+        if (!enabled || content.length > maxEntryBytes) {
+            return ZipArchiveEntry.file(name, content, level);
+        }
+        ContentKey key = new ContentKey(content, level);
+        PooledEntry pooled = entries.get(key);
+        if (pooled != null) {
+            pooled.referenced = true;
+            hits.increment();
+            return pooled.entry.withName(name);
+        }
+
+        misses.increment();
+        ZipArchiveEntry entry = ZipArchiveEntry.file(name, content, level);
+        long entryBytes = content.length + entry.getCompressedSize();
+        if (entryBytes <= maxBytes && seenBefore(key) && entries.putIfAbsent(key, new PooledEntry(entry, entryBytes)) == null) {
+            if (bytes.addAndGet(entryBytes) > maxBytes) {
+                evict();
+            }
+        }
+        return entry;
+    }
+
+    /**
+     * Records the content's fingerprint and returns whether it was already there, i.e. this is a second sighting.
+     */
+    private boolean seenBefore(ContentKey key) {
+        int slot = key.hash & (SIGHTINGS - 1);
+        long fingerprint = key.fingerprint();
+        return sightings.getAndSet(slot, fingerprint) == fingerprint;
+    }
+
+    private void evict() {
+        // Two passes at most: the first may only clear reference bits.
+        for (int pass = 0; pass < 2 && bytes.get() > maxBytes; pass++) {
+            Iterator<Map.Entry<ContentKey, PooledEntry>> iterator = entries.entrySet().iterator();
+            while (bytes.get() > maxBytes && iterator.hasNext()) {
+                Map.Entry<ContentKey, PooledEntry> candidate = iterator.next();
+                PooledEntry pooled = candidate.getValue();
+                if (pooled.referenced) {
+                    pooled.referenced = false;
+                } else if (entries.remove(candidate.getKey(), pooled)) {
+                    bytes.addAndGet(-pooled.bytes);
+                    evictions.increment();
+                }
+            }
+        }
+    }
+
+    private static final class PooledEntry {
+        private final ZipArchiveEntry entry;
+        private final long bytes;
+        // Set on every hit, cleared by the eviction sweep.
+        private volatile boolean referenced;
+
+        private PooledEntry(ZipArchiveEntry entry, long bytes) {
+            this.entry = entry;
+            this.bytes = bytes;
+        }
+    }
+
+    private static final class ContentKey {
+        private final byte[] content;
+        private final int level;
+        private final int hash;
+
+        private ContentKey(byte[] content, int level) {
+            this.content = content;
+            this.level = level;
+            this.hash = 31 * Arrays.hashCode(content) + level;
+        }
+
+        // Content hash and length in one value, as remembered in the sightings table.
+        private long fingerprint() {
+            return ((long) hash << 32) | content.length;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof ContentKey key && key.hash == hash && key.level == level && Arrays.equals(key.content, content);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package in.oceanbytes.spring_project_generator.config;
+
+import in.oceanbytes.spring_project_generator.cache.ArchiveCache;
+import in.oceanbytes.spring_project_generator.executors.GenerationExecutor;
+import in.oceanbytes.spring_project_generator.services.PrewarmService;
+import in.oceanbytes.spring_project_generator.services.ProjectService;
+import in.oceanbytes.spring_project_generator.storage.ArtifactJournal;
+import in.oceanbytes.spring_project_generator.storage.ArtifactStore;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * With {@code spring.main.lazy-initialization=true} (the startup image), beans are only created when first used.
+ * The generation path and the beans that must work from startup on (orphan reclaim, the artifact sweeper, the
+ * archive cache index, pre-generation) stay eager, so the first /generate does not pay for them; batches, jobs, the
+ * catalog, the form page and most of the auto-configuration wait for their first request.
+ */
+@Configuration
+public class LazyInitializationConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter eagerGenerationBeans() {
+        return LazyInitializationExcludeFilter.forBeanTypes(ProjectService.class, GenerationExecutor.class,
+                ArchiveCache.class, ArtifactStore.class, ArtifactJournal.class, PrewarmService.class);
+    }
+}
@@ -0,0 +1,86 @@
+package in.oceanbytes.spring_project_generator.config;
+
+import in.oceanbytes.spring_project_generator.models.ProjectRequest;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Settings of the background pre-generation under {@code project.generator.prewarm}. A properties class rather than
+ * {@code @Value} fields, because the warm-up list binds to {@link ProjectRequest}s.
+ */
+@Component
+@ConfigurationProperties("project.generator.prewarm")
+public class PrewarmProperties {
+
+    private boolean enabled = true;
+    // Number of most frequent request shapes tracked and eligible for pre-generation.
+    private int topK = 16;
+    // Estimated requests a shape needs before it is pre-generated.
+    private int minCount = 3;
+    private long intervalSeconds = 30;
+    // Counts are halved this often, so shapes that are no longer requested drop out of the hot set.
+    private long decayIntervalSeconds = 300;
+    // Counters per row of the frequency sketch.
+    private int sketchWidth = 1024;
+    // Generated once at startup.
+    private List<ProjectRequest> requests = new ArrayList<>();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getTopK() {
+        return topK;
+    }
+
+    public void setTopK(int topK) {
+        this.topK = topK;
+    }
+
+    public int getMinCount() {
+        return minCount;
+    }
+
+    public void setMinCount(int minCount) {
+        this.minCount = minCount;
+    }
+
+    public long getIntervalSeconds() {
+        return intervalSeconds;
+    }
+
+    public void setIntervalSeconds(long intervalSeconds) {
+        this.intervalSeconds = intervalSeconds;
+    }
+
+    public long getDecayIntervalSeconds() {
+        return decayIntervalSeconds;
+    }
+
+    public void setDecayIntervalSeconds(long decayIntervalSeconds) {
+        this.decayIntervalSeconds = decayIntervalSeconds;
+    }
+
+    public int getSketchWidth() {
+        return sketchWidth;
+    }
+
+    public void setSketchWidth(int sketchWidth) {
+        this.sketchWidth = sketchWidth;
+    }
+
+    public List<ProjectRequest> getRequests() {
+        return requests;
+    }
+
+    public void setRequests(List<ProjectRequest> requests) {
+        this.requests = requests;
+    }
+}
@@ -0,0 +1,21 @@
+package in.oceanbytes.spring_project_generator.config;
+
+import in.oceanbytes.spring_project_generator.aspects.SampledRequestLogger;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+    private final SampledRequestLogger sampledRequestLogger;
+
+    public WebMvcConfig(SampledRequestLogger sampledRequestLogger) {
+        this.sampledRequestLogger = sampledRequestLogger;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(sampledRequestLogger).addPathPatterns("/api/**");
+    }
+}
@@ -0,0 +1,35 @@
+package in.oceanbytes.spring_project_generator.controllers;
+
+import in.oceanbytes.spring_project_generator.models.GeneratorCatalog;
+import in.oceanbytes.spring_project_generator.services.CatalogService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The generator options as JSON, for CLI clients and the front end.
+ */
+@RestController
+@RequestMapping("/api/spring-project-generator/v1/catalog")
+public class CatalogController {
+
+    private final CatalogService catalogService;
+
+    public CatalogController(CatalogService catalogService) {
+        this.catalogService = catalogService;
+    }
+
+    // The catalog version is the ETag, so clients revalidate with If-None-Match and usually get 304.
+    @GetMapping
+    public ResponseEntity<GeneratorCatalog> getCatalog() {
+        GeneratorCatalog catalog = catalogService.getCatalog();
+        return ResponseEntity.ok()
+                .eTag(catalog.getVersion())
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic())
+                .body(catalog);
+    }
+}
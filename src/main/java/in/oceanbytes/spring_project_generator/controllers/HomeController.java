@@ -1,23 +1,45 @@
 package in.oceanbytes.spring_project_generator.controllers;
 
+import in.oceanbytes.spring_project_generator.models.GeneratorCatalog;
 import in.oceanbytes.spring_project_generator.models.ProjectRequest;
+import in.oceanbytes.spring_project_generator.services.BatchService;
+import in.oceanbytes.spring_project_generator.services.CatalogService;
 import in.oceanbytes.spring_project_generator.services.ProjectService;
+import in.oceanbytes.spring_project_generator.storage.ArtifactStore;
+import in.oceanbytes.spring_project_generator.utils.ChecksumUtils;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
-import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.thymeleaf.context.WebContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.web.IWebExchange;
+import org.thymeleaf.web.servlet.JakartaServletWebApplication;
 
 import java.io.File;
-import java.io.FileInputStream;
-import java.util.Arrays;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Controller
 @RequestMapping("/api/spring-project-generator/v1")
@@ -26,56 +48,149 @@ public class HomeController {
     private static final Logger LOGGER = LoggerFactory.getLogger(HomeController.class);
 
     private final ProjectService projectService;
+    private final BatchService batchService;
+    private final CatalogService catalogService;
+    private final SpringTemplateEngine templateEngine;
+    private final ArtifactStore artifactStore;
 
-    @Value("${project.generator.available-packages}")
-    private String packagesAvailable;
+    // Stream the archive straight into the response instead of serving a zip file from disk.
+    @Value("${project.generator.streaming:true}")
+    private boolean streaming;
 
-    @Value("${project.generator.available-apis}")
-    private String apisAvailable;
+    private volatile FormPage formPage;
 
-    @Value("${project.generator.available-java-versions}")
-    private String javaVersionsAvailable;
-
-    public HomeController(ProjectService projectService) {
+    public HomeController(ProjectService projectService, BatchService batchService, CatalogService catalogService,
+                          SpringTemplateEngine templateEngine, ArtifactStore artifactStore) {
         this.projectService = projectService;
+        this.batchService = batchService;
+        this.catalogService = catalogService;
+        this.templateEngine = templateEngine;
+        this.artifactStore = artifactStore;
     }
 
+    // Display the UI form. It only depends on the catalog, so it is rendered once and then served from memory;
+    // browsers revalidate it with its ETag.
+    @GetMapping(value = "/generator", produces = MediaType.TEXT_HTML_VALUE)
+    public ResponseEntity<String> showForm(HttpServletRequest request, HttpServletResponse response) {
+        FormPage page = formPage;
+        if (page == null) {
+            page = renderForm(request, response);
+            formPage = page;
+        }
+        return ResponseEntity.ok()
+                .eTag(page.eTag)
+                .cacheControl(CacheControl.noCache())
+                .contentType(new MediaType(MediaType.TEXT_HTML, StandardCharsets.UTF_8))
+                .body(page.html);
+    }
 
-    // Display the UI form.
-    @GetMapping("/generator")
-    public String showForm(Model model) {
-        // Define the list of packages that users can select.
-        List<String> availablePackages = Arrays.asList(this.packagesAvailable.split(","));
-        LOGGER.debug("availablePackages : {}", availablePackages);
+    // Handle the form submission and return the generated zip file. Declared as Object because Spring picks the
+    // return value handler by the declared body type of a ResponseEntity but by the runtime type of anything else:
+    // streaming mode returns a StreamingResponseBody, file mode the zip file as a resource, like resumeProject.
+    // @ResponseBody marks the null result of the async redispatch after streaming as handled, instead of a view name.
+    @GetMapping(value = "/generate", produces = "application/zip")
+    @ResponseBody
+    public Object generateProject(ProjectRequest projectRequest, ServletWebRequest webRequest) throws Exception {
+        // Clients that already have this archive get 304 without anything being generated.
+        // checkNotModified also sets the ETag header of the response.
+        String eTag = projectService.eTag(projectRequest);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        if (streaming) {
+            return streamProject(projectRequest, webRequest.getResponse());
+        }
+        File zipFile = projectService.generateProject(projectRequest);
+        releaseAfterRequest(zipFile);
+        return rangeable(new FileSystemResource(zipFile), eTag, zipFile.getName(), webRequest);
+    }
 
-        // Define the list of APIs that user can select.
-        List<String> availableAPIs = Arrays.asList(apisAvailable.split(","));
-        LOGGER.debug("availableAPIs : {}", availableAPIs);
+    // Range requests for /generate, also in streaming mode: the archive is served from the artifact store as a
+    // resource, so Spring answers the byte ranges (206, 416 and multipart ranges).
+    @GetMapping(value = "/generate", headers = HttpHeaders.RANGE, produces = "application/zip")
+    public ResponseEntity<Resource> resumeProject(ProjectRequest projectRequest, ServletWebRequest webRequest) throws Exception {
+        String eTag = projectService.eTag(projectRequest);
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+        File zipFile = projectService.generateProject(projectRequest);
+        releaseAfterRequest(zipFile);
+        return rangeable(new FileSystemResource(zipFile), eTag, zipFile.getName(), webRequest);
+    }
 
-        // Define the list of Java versions that user can select.
-        List<String> availableJavaVersions = Arrays.asList(javaVersionsAvailable.split(","));
-        LOGGER.debug("availableJavaVersions : {}", availableJavaVersions);
+    // Same as GET /generate, with the request as a JSON body; needed for large entity schemas,
+    // which do not fit in query parameters.
+    @PostMapping(value = "/generate", consumes = MediaType.APPLICATION_JSON_VALUE, produces = "application/zip")
+    @ResponseBody
+    public Object generateProjectFromBody(@RequestBody ProjectRequest projectRequest, ServletWebRequest webRequest) throws Exception {
+        return generateProject(projectRequest, webRequest);
+    }
 
-        model.addAttribute("availablePackages", availablePackages);
-        model.addAttribute("availableAPIs", availableAPIs);
-        model.addAttribute("availableJavaVersions", availableJavaVersions);
+    // Generate several projects into one archive, each under its own top-level folder. The archive is reproducible
+    // and kept in the artifact store, so a repeated request with Range (and If-Range) resumes an interrupted download.
+    @PostMapping(value = "/batch", produces = "application/zip")
+    public ResponseEntity<Resource> generateBatch(@RequestBody List<ProjectRequest> projectRequests, ServletWebRequest webRequest) throws IOException {
+        BatchService.BatchArchive archive = batchService.generateBatch(projectRequests);
+        releaseAfterRequest(archive.getFile());
+        return rangeable(new FileSystemResource(archive.getFile()), archive.getETag(), archive.getFile().getName(), webRequest);
+    }
 
-        // Bind an empty ProjectRequest for form data binding.
-        model.addAttribute("projectRequest", new ProjectRequest());
+    private StreamingResponseBody streamProject(ProjectRequest projectRequest, HttpServletResponse response) {
+        // Admission to the generation executor is decided here, before the response is committed.
+        StreamingResponseBody body = projectService.prepareStream(projectRequest)::writeTo;
 
-        return "index"; // Returns the index.html template.
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + projectRequest.getProjectName() + ".zip\"");
+        response.setContentType("application/zip");
+        return body;
     }
 
-    // Handle the form submission and return the generated zip file.
-    @GetMapping(value = "/generate", produces = "application/zip")
-    public ResponseEntity<InputStreamResource> generateProject(ProjectRequest projectRequest) throws Exception {
-        File zipFile = projectService.generateProject(projectRequest);
-        InputStreamResource resource = new InputStreamResource(new FileInputStream(zipFile));
+    // The archive is pinned in the artifact store; release it once the response has been written (or has failed).
+    private void releaseAfterRequest(File zipFile) {
+        RequestContextHolder.currentRequestAttributes().registerDestructionCallback("artifact-pin:" + zipFile,
+                () -> artifactStore.release(zipFile.toPath()), RequestAttributes.SCOPE_REQUEST);
+    }
+
+    private FormPage renderForm(HttpServletRequest request, HttpServletResponse response) {
+        GeneratorCatalog catalog = catalogService.getCatalog();
+        LOGGER.debug("Rendering form for catalog {}", catalog.getVersion());
+
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("availablePackages", catalog.getPackages());
+        variables.put("availableAPIs", catalog.getApis());
+        variables.put("availableJavaVersions", catalog.getJavaVersions());
+        // Bind an empty ProjectRequest for form data binding.
+        variables.put("projectRequest", new ProjectRequest());
 
+        IWebExchange exchange = JakartaServletWebApplication.buildApplication(request.getServletContext())
+                .buildExchange(request, response);
+        String html = templateEngine.process("index", new WebContext(exchange, request.getLocale(), variables));
+        return new FormPage(html, "\"" + ChecksumUtils.sha256Hex(html) + "\"");
+    }
+
+    /**
+     * Response for an archive resource; Spring applies the Range header to it. Spring does not evaluate If-Range, so
+     * a client whose partial copy has another validator gets the whole archive as a plain stream instead.
+     */
+    private static ResponseEntity<Resource> rangeable(Resource archive, String eTag, String fileName, ServletWebRequest webRequest)
+            throws IOException {
+        String ifRange = webRequest.getHeader(HttpHeaders.IF_RANGE);
+        // InputStreamResource is the one resource type Spring never splits into ranges.
+        Resource body = ifRange == null || ifRange.trim().equals(eTag) ? archive : new InputStreamResource(archive.getInputStream());
         return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + zipFile.getName() + "\"")
-                .contentLength(zipFile.length())
+                .eTag(eTag)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .contentLength(archive.contentLength())
                 .contentType(MediaType.valueOf("application/zip"))
-                .body(resource);
+                .body(body);
+    }
+
+    private static final class FormPage {
+        private final String html;
+        private final String eTag;
+
+        private FormPage(String html, String eTag) {
+            this.html = html;
+            this.eTag = eTag;
+        }
     }
 }
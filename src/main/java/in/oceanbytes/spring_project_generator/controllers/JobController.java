@@ -0,0 +1,74 @@
+package in.oceanbytes.spring_project_generator.controllers;
+
+import in.oceanbytes.spring_project_generator.models.GenerationJob;
+import in.oceanbytes.spring_project_generator.models.ProjectRequest;
+import in.oceanbytes.spring_project_generator.services.JobService;
+import in.oceanbytes.spring_project_generator.storage.ArtifactStore;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.io.File;
+import java.net.URI;
+
+/**
+ * Asynchronous variant of {@code /generate}: submit a job, poll its status, then download the archive.
+ */
+@RestController
+@RequestMapping("/api/spring-project-generator/v1/jobs")
+public class JobController {
+
+    private final JobService jobService;
+    private final ArtifactStore artifactStore;
+
+    public JobController(JobService jobService, ArtifactStore artifactStore) {
+        this.jobService = jobService;
+        this.artifactStore = artifactStore;
+    }
+
+    // Accepts the same parameters as /generate and returns at once with the job id.
+    @PostMapping
+    public ResponseEntity<GenerationJob> submitJob(ProjectRequest projectRequest) {
+        GenerationJob job = jobService.submit(projectRequest);
+        URI location = ServletUriComponentsBuilder.fromCurrentRequest()
+                .path("/{id}")
+                .buildAndExpand(job.getId())
+                .toUri();
+        return ResponseEntity.accepted().location(location).body(job);
+    }
+
+    @GetMapping("/{id}")
+    public GenerationJob getJob(@PathVariable String id) {
+        return jobService.getJob(id);
+    }
+
+    // The archive of a job never changes, so its id is a strong ETag; Spring answers conditional and Range requests.
+    @GetMapping(value = "/{id}/download", produces = "application/zip")
+    public ResponseEntity<Resource> downloadJob(@PathVariable String id) {
+        File zipFile = jobService.getArchive(id);
+        releaseAfterRequest(zipFile);
+
+        return ResponseEntity.ok()
+                .eTag(id)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + zipFile.getName() + "\"")
+                .contentLength(zipFile.length())
+                .contentType(MediaType.valueOf("application/zip"))
+                .body(new FileSystemResource(zipFile));
+    }
+
+    // The archive is pinned in the artifact store; release it once the response has been written (or has failed).
+    private void releaseAfterRequest(File zipFile) {
+        RequestContextHolder.currentRequestAttributes().registerDestructionCallback("artifact-pin:" + zipFile,
+                () -> artifactStore.release(zipFile.toPath()), RequestAttributes.SCOPE_REQUEST);
+    }
+}
@@ -0,0 +1,55 @@
+package in.oceanbytes.spring_project_generator.controllers;
+
+import in.oceanbytes.spring_project_generator.models.ProjectPreview;
+import in.oceanbytes.spring_project_generator.models.ProjectRequest;
+import in.oceanbytes.spring_project_generator.services.PreviewService;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Preview of what /generate would produce for the same parameters: the file tree as JSON, and single files as text.
+ */
+@RestController
+@RequestMapping("/api/spring-project-generator/v1/preview")
+public class PreviewController {
+
+    private final PreviewService previewService;
+
+    public PreviewController(PreviewService previewService) {
+        this.previewService = previewService;
+    }
+
+    // The same parameters always give the same tree and files until the templates change, so both are cacheable;
+    // checkNotModified answers revalidations with 304 and sets the ETag header.
+    @GetMapping
+    public ResponseEntity<ProjectPreview> previewTree(ProjectRequest projectRequest, ServletWebRequest webRequest) {
+        if (webRequest.checkNotModified(previewService.treeETag(projectRequest))) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES))
+                .body(previewService.tree(projectRequest));
+    }
+
+    @GetMapping("/file")
+    public ResponseEntity<byte[]> previewFile(ProjectRequest projectRequest, @RequestParam String path, ServletWebRequest webRequest) {
+        PreviewService.RenderedFile file = previewService.file(projectRequest, path);
+        if (webRequest.checkNotModified(file.getETag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES))
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                .header("X-Preview-Path", file.getPath())
+                .body(file.getContent());
+    }
+}
@@ -0,0 +1,18 @@
+package in.oceanbytes.spring_project_generator.exceptions;
+
+/**
+ * Thrown when the generation executor is saturated and a request is turned away.
+ */
+public class GenerationRejectedException extends ServiceException {
+
+    private final long retryAfterSeconds;
+
+    public GenerationRejectedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,18 @@
+package in.oceanbytes.spring_project_generator.exceptions;
+
+/**
+ * Thrown when a generation does not finish within its deadline.
+ */
+public class GenerationTimeoutException extends ServiceException {
+
+    private final long retryAfterSeconds;
+
+    public GenerationTimeoutException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -3,6 +3,7 @@ package in.oceanbytes.spring_project_generator.exceptions;
 import jakarta.validation.ConstraintViolationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -35,6 +36,108 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorDetails, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    // Handle GenerationRejectedException (generation executor saturated)
+    @ExceptionHandler(GenerationRejectedException.class)
+    public ResponseEntity<ErrorDetails> handleGenerationRejectedException(GenerationRejectedException ex, WebRequest request) {
+        LOGGER.warn(ex.getMessage());
+
+        ErrorDetails errorDetails = new ErrorDetails(
+                LocalDateTime.now(),
+                ex.getMessage(),
+                request.getDescription(false)
+        );
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+        return new ResponseEntity<>(errorDetails, headers, HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    // Handle GenerationTimeoutException (generation deadline exceeded)
+    @ExceptionHandler(GenerationTimeoutException.class)
+    public ResponseEntity<ErrorDetails> handleGenerationTimeoutException(GenerationTimeoutException ex, WebRequest request) {
+        LOGGER.error(ex.getMessage());
+
+        ErrorDetails errorDetails = new ErrorDetails(
+                LocalDateTime.now(),
+                ex.getMessage(),
+                request.getDescription(false)
+        );
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()));
+        return new ResponseEntity<>(errorDetails, headers, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    // Handle JobNotFoundException (unknown or expired job)
+    @ExceptionHandler(JobNotFoundException.class)
+    public ResponseEntity<ErrorDetails> handleJobNotFoundException(JobNotFoundException ex, WebRequest request) {
+        LOGGER.warn(ex.getMessage());
+
+        ErrorDetails errorDetails = new ErrorDetails(
+                LocalDateTime.now(),
+                ex.getMessage(),
+                request.getDescription(false)
+        );
+
+        return new ResponseEntity<>(errorDetails, HttpStatus.NOT_FOUND);
+    }
+
+    // Handle PreviewFileNotFoundException (file not in the previewed project)
+    @ExceptionHandler(PreviewFileNotFoundException.class)
+    public ResponseEntity<ErrorDetails> handlePreviewFileNotFoundException(PreviewFileNotFoundException ex, WebRequest request) {
+        LOGGER.warn(ex.getMessage());
+
+        ErrorDetails errorDetails = new ErrorDetails(
+                LocalDateTime.now(),
+                ex.getMessage(),
+                request.getDescription(false)
+        );
+
+        return new ResponseEntity<>(errorDetails, HttpStatus.NOT_FOUND);
+    }
+
+    // Handle JobNotReadyException (download requested before the job succeeded)
+    @ExceptionHandler(JobNotReadyException.class)
+    public ResponseEntity<ErrorDetails> handleJobNotReadyException(JobNotReadyException ex, WebRequest request) {
+        LOGGER.warn(ex.getMessage());
+
+        ErrorDetails errorDetails = new ErrorDetails(
+                LocalDateTime.now(),
+                ex.getMessage(),
+                request.getDescription(false)
+        );
+
+        return new ResponseEntity<>(errorDetails, HttpStatus.CONFLICT);
+    }
+
+    // Handle WorkspaceLimitExceededException (generated project larger than the workspace limit)
+    @ExceptionHandler(WorkspaceLimitExceededException.class)
+    public ResponseEntity<ErrorDetails> handleWorkspaceLimitExceededException(WorkspaceLimitExceededException ex, WebRequest request) {
+        LOGGER.warn(ex.getMessage());
+
+        ErrorDetails errorDetails = new ErrorDetails(
+                LocalDateTime.now(),
+                ex.getMessage(),
+                request.getDescription(false)
+        );
+
+        return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
+    }
+
+    // Handle InvalidEntitySchemaException (bad entity schema in the request)
+    @ExceptionHandler(InvalidEntitySchemaException.class)
+    public ResponseEntity<ErrorDetails> handleInvalidEntitySchemaException(InvalidEntitySchemaException ex, WebRequest request) {
+        LOGGER.warn(ex.getMessage());
+
+        ErrorDetails errorDetails = new ErrorDetails(
+                LocalDateTime.now(),
+                ex.getMessage(),
+                request.getDescription(false)
+        );
+
+        return new ResponseEntity<>(errorDetails, HttpStatus.BAD_REQUEST);
+    }
+
     // Handle validation errors (MethodArgumentNotValidException)
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<ErrorDetails> handleMethodArgumentNotValid(MethodArgumentNotValidException ex, WebRequest request) {
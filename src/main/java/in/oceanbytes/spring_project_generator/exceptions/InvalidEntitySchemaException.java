@@ -0,0 +1,12 @@
+package in.oceanbytes.spring_project_generator.exceptions;
+
+/**
+ * Thrown when a request's entity schema is invalid: bad or duplicate names, unsupported field types, or more
+ * entities or fields than allowed.
+ */
+public class InvalidEntitySchemaException extends ServiceException {
+
+    public InvalidEntitySchemaException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package in.oceanbytes.spring_project_generator.exceptions;
+
+/**
+ * Thrown when a job id is unknown, or the job and its archive have already expired.
+ */
+public class JobNotFoundException extends ServiceException {
+
+    public JobNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package in.oceanbytes.spring_project_generator.exceptions;
+
+/**
+ * Thrown when a job's archive is requested before the job has succeeded.
+ */
+public class JobNotReadyException extends ServiceException {
+
+    public JobNotReadyException(String message) {
+        super(message);
+    }
+}
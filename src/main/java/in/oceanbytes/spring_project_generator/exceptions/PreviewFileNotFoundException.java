@@ -0,0 +1,11 @@
+package in.oceanbytes.spring_project_generator.exceptions;
+
+/**
+ * Thrown when a previewed file is not part of the project the request would generate.
+ */
+public class PreviewFileNotFoundException extends ServiceException {
+
+    public PreviewFileNotFoundException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package in.oceanbytes.spring_project_generator.exceptions;
+
+/**
+ * Thrown when a generated project grows beyond the configured workspace size limit.
+ */
+public class WorkspaceLimitExceededException extends ServiceException {
+
+    public WorkspaceLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,167 @@
+package in.oceanbytes.spring_project_generator.executors;
+
+import in.oceanbytes.spring_project_generator.exceptions.GenerationRejectedException;
+import in.oceanbytes.spring_project_generator.exceptions.GenerationTimeoutException;
+import in.oceanbytes.spring_project_generator.utils.FutureUtils;
+import in.oceanbytes.spring_project_generator.utils.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Dedicated, bounded executor for project generation. Work beyond {@code threads} running plus
+ * {@code queue-capacity} waiting is rejected immediately with a {@link GenerationRejectedException} (HTTP 429),
+ * and every generation must finish within {@code deadline-seconds} of being awaited.
+ * <p>
+ * With {@code spring.threads.virtual.enabled} on Java 21+ the workers are virtual threads: {@code threads} then only
+ * bounds how many generations run at once, and blocked workers (script processes, file I/O) cost no OS thread.
+ */
+@Component
+public class GenerationExecutor {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(GenerationExecutor.class);
+
+    @Value("${project.generator.executor.threads:4}")
+    private int threads;
+
+    @Value("${project.generator.executor.queue-capacity:32}")
+    private int queueCapacity;
+
+    @Value("${project.generator.executor.deadline-seconds:30}")
+    private long deadlineSeconds;
+
+    @Value("${project.generator.executor.retry-after-seconds:5}")
+    private long retryAfterSeconds;
+
+    private final MeterRegistry meterRegistry;
+    private final Environment environment;
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    private ThreadPoolExecutor executor;
+
+    public GenerationExecutor(MeterRegistry meterRegistry, Environment environment) {
+        this.meterRegistry = meterRegistry;
+        this.environment = environment;
+    }
+
+    @FunctionalInterface
+    public interface GenerationTask<T> {
+        T call() throws IOException, InterruptedException;
+    }
+
+    @PostConstruct
+    public void init() {
+        // A capacity of 0 means no waiting at all: hand off to an idle worker or reject.
+        BlockingQueue<Runnable> queue = queueCapacity > 0 ? new ArrayBlockingQueue<>(queueCapacity) : new SynchronousQueue<>();
+        boolean virtual = Threading.VIRTUAL.isActive(environment);
+        ThreadFactory threadFactory = virtual
+                ? new VirtualThreadTaskExecutor("generator-").getVirtualThreadFactory()
+                : new GeneratorThreadFactory();
+        executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                queue, threadFactory, new ThreadPoolExecutor.AbortPolicy());
+        LOGGER.info("Generation executor: {} {} threads, queue capacity {}, deadline {}s",
+                threads, virtual ? "virtual" : "platform", queueCapacity, deadlineSeconds);
+
+        Gauge.builder("generator.executor.queued", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("generator.executor.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+        Gauge.builder("generator.executor.capacity", this, e -> e.threads + e.queueCapacity).register(meterRegistry);
+        FunctionCounter.builder("generator.executor.rejections", rejections, LongAdder::sum).register(meterRegistry);
+        FunctionCounter.builder("generator.executor.timeouts", timeouts, LongAdder::sum).register(meterRegistry);
+    }
+
+    /**
+     * Queues the task, or rejects it right away when the executor is saturated.
+     */
+    public <T> Future<T> submit(GenerationTask<T> task) {
+        try {
+            return executor.submit(task::call);
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            throw new GenerationRejectedException("Generator is busy, please retry later.", retryAfterSeconds);
+        }
+    }
+
+    /**
+     * Waits for a submitted task up to the deadline, cancelling (and interrupting) it when the deadline passes.
+     */
+    public <T> T await(Future<T> future) throws IOException, InterruptedException {
+        try {
+            return FutureUtils.getUnwrapped(future, deadlineSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeouts.increment();
+            throw new GenerationTimeoutException("Project generation did not finish within " + deadlineSeconds + " seconds.", retryAfterSeconds);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            throw e;
+        }
+    }
+
+    /**
+     * Waits up to the deadline for a single flight led by another request, which generates under the same deadline.
+     */
+    public <T> T await(SingleFlight.Flight<T> flight) throws IOException, InterruptedException {
+        try {
+            return flight.await(deadlineSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            throw new GenerationTimeoutException("Project generation did not finish within " + deadlineSeconds + " seconds.", retryAfterSeconds);
+        }
+    }
+
+    public <T> T execute(GenerationTask<T> task) throws IOException, InterruptedException {
+        return await(submit(task));
+    }
+
+    /**
+     * Whether no generation is running or waiting.
+     */
+    public boolean isIdle() {
+        return executor.getActiveCount() == 0 && executor.getQueue().isEmpty();
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public long getDeadlineSeconds() {
+        return deadlineSeconds;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static final class GeneratorThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            return new Thread(runnable, "generator-" + count.incrementAndGet());
+        }
+    }
+}
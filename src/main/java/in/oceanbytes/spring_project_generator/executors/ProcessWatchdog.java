@@ -0,0 +1,164 @@
+package in.oceanbytes.spring_project_generator.executors;
+
+import in.oceanbytes.spring_project_generator.exceptions.GenerationTimeoutException;
+import in.oceanbytes.spring_project_generator.metrics.GenerationMetrics;
+import in.oceanbytes.spring_project_generator.utils.RingBuffer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs external processes (the generator scripts) under a wall-clock timeout. stdout and stderr are drained on
+ * background threads into bounded ring buffers, so a chatty process can never block on a full pipe, and a process
+ * that times out or whose caller is interrupted is killed together with all of its descendants.
+ */
+@Component
+public class ProcessWatchdog {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProcessWatchdog.class);
+
+    public static final String KILL_TIMEOUT = "timeout";
+    public static final String KILL_CANCELLED = "cancelled";
+
+    @Value("${project.generator.scripts.timeout-seconds:20}")
+    private long timeoutSeconds;
+
+    // Last bytes of each output stream kept for logging and error messages.
+    @Value("${project.generator.scripts.output-buffer-bytes:8192}")
+    private int outputBufferBytes;
+
+    @Value("${project.generator.executor.retry-after-seconds:5}")
+    private long retryAfterSeconds;
+
+    private final GenerationMetrics generationMetrics;
+
+    // Pumps are blocked in read() most of the time, so they get their own threads rather than a generator slot.
+    private final ExecutorService pumps;
+
+    public ProcessWatchdog(GenerationMetrics generationMetrics, Environment environment) {
+        this.generationMetrics = generationMetrics;
+        this.pumps = Executors.newCachedThreadPool(Threading.VIRTUAL.isActive(environment)
+                ? new VirtualThreadTaskExecutor("script-output-").getVirtualThreadFactory()
+                : new PumpThreadFactory());
+    }
+
+    /**
+     * Output and exit code of a finished process.
+     */
+    public static final class Result {
+        private final int exitCode;
+        private final String stdout;
+        private final String stderr;
+
+        private Result(int exitCode, String stdout, String stderr) {
+            this.exitCode = exitCode;
+            this.stdout = stdout;
+            this.stderr = stderr;
+        }
+
+        public int getExitCode() {
+            return exitCode;
+        }
+
+        public String getStdout() {
+            return stdout;
+        }
+
+        public String getStderr() {
+            return stderr;
+        }
+    }
+
+    /**
+     * Starts the process and waits for it to exit. Throws {@link GenerationTimeoutException} if it runs longer than
+     * {@code timeout-seconds}; in that case, and when the calling thread is interrupted, the process tree is killed.
+     */
+    public Result run(ProcessBuilder processBuilder) throws IOException, InterruptedException {
+        Process process = processBuilder.start();
+        RingBuffer stdout = new RingBuffer(outputBufferBytes);
+        RingBuffer stderr = new RingBuffer(outputBufferBytes);
+        Future<?> stdoutPump = pumps.submit(() -> pump(process.getInputStream(), stdout));
+        Future<?> stderrPump = pumps.submit(() -> pump(process.getErrorStream(), stderr));
+        process.getOutputStream().close();
+
+        // onExit() instead of waitFor(): waitFor() waits on a monitor, which pins a virtual thread to its carrier.
+        try {
+            process.onExit().get(timeoutSeconds, TimeUnit.SECONDS);
+        } catch (TimeoutException e) {
+            killTree(process, KILL_TIMEOUT);
+            throw new GenerationTimeoutException("Script did not finish within " + timeoutSeconds + " seconds.", retryAfterSeconds);
+        } catch (InterruptedException e) {
+            // The generation was cancelled, e.g. by the executor deadline.
+            killTree(process, KILL_CANCELLED);
+            throw e;
+        } catch (ExecutionException e) {
+            throw new IOException("Could not wait for script process " + process.pid(), e.getCause());
+        }
+
+        // The pipes close once the process tree exits; wait briefly for the pumps to catch up with the tail.
+        awaitPump(stdoutPump);
+        awaitPump(stderrPump);
+        return new Result(process.exitValue(), stdout.toString(), stderr.toString());
+    }
+
+    private void killTree(Process process, String reason) {
+        // Descendants first, so none of them is re-parented and missed once the parent is gone.
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+        generationMetrics.recordScriptKill(reason);
+        LOGGER.warn("Killed script process {} and its descendants ({})", process.pid(), reason);
+    }
+
+    private static void pump(InputStream in, RingBuffer sink) {
+        byte[] chunk = new byte[4096];
+        try (in) {
+            int read;
+            while ((read = in.read(chunk)) != -1) {
+                sink.write(chunk, 0, read);
+            }
+        } catch (IOException e) {
+            // The stream is closed when the process is killed.
+        }
+    }
+
+    private static void awaitPump(Future<?> pump) throws InterruptedException {
+        try {
+            pump.get(1, TimeUnit.SECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            // A background grandchild may still hold the pipe open; the output retained so far is good enough.
+            pump.cancel(true);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pumps.shutdownNow();
+    }
+
+    private static final class PumpThreadFactory implements ThreadFactory {
+        private final AtomicInteger count = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "script-output-" + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
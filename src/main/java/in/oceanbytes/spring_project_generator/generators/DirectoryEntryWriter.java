@@ -0,0 +1,29 @@
+package in.oceanbytes.spring_project_generator.generators;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Writes project entries as a directory tree under a root directory.
+ */
+public class DirectoryEntryWriter implements ProjectEntryWriter {
+
+    private final Path root;
+
+    public DirectoryEntryWriter(Path root) {
+        this.root = root;
+    }
+
+    @Override
+    public void directory(String path) throws IOException {
+        Files.createDirectories(root.resolve(path));
+    }
+
+    @Override
+    public void file(String path, byte[] content) throws IOException {
+        Path target = root.resolve(path);
+        Files.createDirectories(target.getParent());
+        Files.write(target, content);
+    }
+}
@@ -0,0 +1,72 @@
+package in.oceanbytes.spring_project_generator.generators;
+
+import in.oceanbytes.spring_project_generator.exceptions.ServiceException;
+import in.oceanbytes.spring_project_generator.exceptions.WorkspaceLimitExceededException;
+import in.oceanbytes.spring_project_generator.storage.ArtifactJournal;
+import in.oceanbytes.spring_project_generator.utils.FileUtils;
+import in.oceanbytes.spring_project_generator.utils.ZipArchiveEntry;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Workspace backed by a fresh temporary directory, for generators that need a real file system (the script engine).
+ * The byte cap is enforced while zipping; closing the workspace deletes the directory.
+ */
+public class DiskWorkspace implements Workspace {
+
+    private final Path directory;
+    private final long maxBytes;
+    private final ArtifactJournal journal;
+
+    private DiskWorkspace(Path directory, long maxBytes, ArtifactJournal journal) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.journal = journal;
+    }
+
+    /**
+     * Creates a workspace in a new {@code project_*} directory under the parent directory, recorded in the journal
+     * until it is closed.
+     */
+    public static DiskWorkspace create(Path parentDir, long maxBytes, ArtifactJournal journal) throws IOException {
+        Files.createDirectories(parentDir);
+        Path directory = Files.createTempDirectory(parentDir, ArtifactJournal.DIRECTORY_PREFIX);
+        journal.recordCreated(directory);
+        return new DiskWorkspace(directory, maxBytes, journal);
+    }
+
+    @Override
+    public ProjectEntryWriter entryWriter() {
+        return new DirectoryEntryWriter(directory);
+    }
+
+    @Override
+    public Path getDirectory() {
+        return directory;
+    }
+
+    @Override
+    public int zipTo(String projectName, OutputStream out, int level, ZipArchiveEntry.Factory entryFactory) throws IOException {
+        Path projectDir = directory.resolve(projectName);
+        if (!Files.isDirectory(projectDir)) {
+            throw new ServiceException("Project directory not found after generation.");
+        }
+        AtomicLong bytes = new AtomicLong();
+        return FileUtils.zipDirectory(projectDir.toFile(), out, level, (name, content, entryLevel) -> {
+            if (bytes.addAndGet(content.length) > maxBytes) {
+                throw new WorkspaceLimitExceededException("Generated project exceeds the workspace limit of " + maxBytes + " bytes.");
+            }
+            return entryFactory.file(name, content, entryLevel);
+        });
+    }
+
+    @Override
+    public void close() {
+        FileUtils.deleteRecursively(directory.toFile());
+        journal.recordDeleted(directory);
+    }
+}
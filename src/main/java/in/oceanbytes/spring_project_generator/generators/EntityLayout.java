@@ -0,0 +1,188 @@
+package in.oceanbytes.spring_project_generator.generators;
+
+import in.oceanbytes.spring_project_generator.models.EntityDefinition;
+import in.oceanbytes.spring_project_generator.models.FieldDefinition;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Names, paths and template variables of one entity of a {@link ProjectLayout}'s schema.
+ */
+public final class EntityLayout {
+
+    // Supported field types and the import each one needs (null for java.lang).
+    private static final Map<String, String> FIELD_TYPES = new LinkedHashMap<>();
+
+    static {
+        FIELD_TYPES.put("String", null);
+        FIELD_TYPES.put("Integer", null);
+        FIELD_TYPES.put("Long", null);
+        FIELD_TYPES.put("Double", null);
+        FIELD_TYPES.put("Float", null);
+        FIELD_TYPES.put("Boolean", null);
+        FIELD_TYPES.put("BigDecimal", "java.math.BigDecimal");
+        FIELD_TYPES.put("BigInteger", "java.math.BigInteger");
+        FIELD_TYPES.put("LocalDate", "java.time.LocalDate");
+        FIELD_TYPES.put("LocalDateTime", "java.time.LocalDateTime");
+        FIELD_TYPES.put("LocalTime", "java.time.LocalTime");
+        FIELD_TYPES.put("Instant", "java.time.Instant");
+        FIELD_TYPES.put("UUID", "java.util.UUID");
+    }
+
+    private static final Set<String> KEYWORDS = Set.of(
+            "abstract", "assert", "boolean", "break", "byte", "case", "catch", "char", "class", "const", "continue",
+            "default", "do", "double", "else", "enum", "extends", "final", "finally", "float", "for", "goto", "if",
+            "implements", "import", "instanceof", "int", "interface", "long", "native", "new", "package", "private",
+            "protected", "public", "return", "short", "static", "strictfp", "super", "switch", "synchronized", "this",
+            "throw", "throws", "transient", "try", "void", "volatile", "while", "true", "false", "null", "_");
+
+    // Names the entity templates already import or declare; an entity with one of them would not compile.
+    private static final Set<String> RESERVED_NAMES = Set.of(
+            "Object", "Class", "Void", "Override", "System", "Math",
+            "List", "ArrayList", "Map", "Optional", "ConcurrentHashMap", "AtomicLong",
+            "Repository", "Service", "HttpStatus", "ResponseEntity", "RestController", "RequestMapping",
+            "GetMapping", "PostMapping", "PutMapping", "DeleteMapping", "PathVariable", "RequestBody",
+            // ExampleController is generated with the "controllers" package.
+            "Example");
+
+    private final EntityDefinition definition;
+    private final String variable;
+    private final String path;
+
+    private EntityLayout(EntityDefinition definition) {
+        this.definition = definition;
+        this.variable = variableName(definition.getName());
+        this.path = pathName(definition.getName());
+    }
+
+    public static EntityLayout of(EntityDefinition definition) {
+        return new EntityLayout(definition);
+    }
+
+    public String getName() {
+        return definition.getName();
+    }
+
+    /**
+     * Lower camel case name of an instance, e.g. {@code purchaseOrder}.
+     */
+    public String getVariable() {
+        return variable;
+    }
+
+    /**
+     * Plural kebab case path segment of the controller, e.g. {@code purchase-orders}.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Template variables of the entity's files, on top of the project variables.
+     */
+    public Map<String, String> variables() {
+        List<FieldDefinition> fields = definition.getFields() == null ? Collections.emptyList() : definition.getFields();
+        Set<String> imports = new TreeSet<>();
+        StringBuilder declarations = new StringBuilder();
+        StringBuilder accessors = new StringBuilder();
+        for (FieldDefinition field : fields) {
+            String type = field.getType();
+            String name = field.getName();
+            String suffix = capitalize(name);
+            if (FIELD_TYPES.get(type) != null) {
+                imports.add(FIELD_TYPES.get(type));
+            }
+            declarations.append("    private ").append(type).append(' ').append(name).append(";\n");
+            accessors.append('\n')
+                    .append("    public ").append(type).append(" get").append(suffix).append("() {\n")
+                    .append("        return ").append(name).append(";\n")
+                    .append("    }\n")
+                    .append('\n')
+                    .append("    public void set").append(suffix).append('(').append(type).append(' ').append(name).append(") {\n")
+                    .append("        this.").append(name).append(" = ").append(name).append(";\n")
+                    .append("    }\n");
+        }
+        StringBuilder importLines = new StringBuilder();
+        for (String type : imports) {
+            importLines.append("\nimport ").append(type).append(';');
+        }
+        if (importLines.length() > 0) {
+            importLines.append('\n');
+        }
+
+        Map<String, String> variables = new HashMap<>();
+        variables.put("ENTITY_NAME", definition.getName());
+        variables.put("ENTITY_VARIABLE", variable);
+        variables.put("ENTITY_PATH", path);
+        variables.put("ENTITY_IMPORTS", importLines.toString());
+        variables.put("ENTITY_FIELDS", declarations.toString());
+        variables.put("ENTITY_ACCESSORS", accessors.toString());
+        return variables;
+    }
+
+    /**
+     * Field types a schema may use.
+     */
+    public static Set<String> getFieldTypes() {
+        return Collections.unmodifiableSet(FIELD_TYPES.keySet());
+    }
+
+    public static boolean isKeyword(String name) {
+        return KEYWORDS.contains(name);
+    }
+
+    /**
+     * Whether the entity name clashes with a type the generated sources use, or its instance name is a keyword.
+     */
+    public static boolean isReservedName(String name) {
+        return RESERVED_NAMES.contains(name) || FIELD_TYPES.containsKey(name) || KEYWORDS.contains(variableName(name));
+    }
+
+    public static String variableName(String name) {
+        // A leading acronym is lower-cased as a whole: "URLMapping" becomes "urlMapping".
+        int upper = 0;
+        while (upper < name.length() && Character.isUpperCase(name.charAt(upper))) {
+            upper++;
+        }
+        if (upper > 1 && upper < name.length()) {
+            upper--;
+        }
+        return name.substring(0, upper).toLowerCase(Locale.ROOT) + name.substring(upper);
+    }
+
+    public static String pathName(String name) {
+        StringBuilder kebab = new StringBuilder(name.length() + 4);
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            // Start a word at "aB" and at the last capital of an acronym followed by lower case ("URLMapping").
+            if (i > 0 && Character.isUpperCase(c)
+                    && (!Character.isUpperCase(name.charAt(i - 1))
+                    || (i + 1 < name.length() && Character.isLowerCase(name.charAt(i + 1))))) {
+                kebab.append('-');
+            }
+            kebab.append(Character.toLowerCase(c));
+        }
+        return plural(kebab.toString());
+    }
+
+    private static String plural(String word) {
+        if (word.endsWith("s") || word.endsWith("x") || word.endsWith("z") || word.endsWith("ch") || word.endsWith("sh")) {
+            return word + "es";
+        }
+        if (word.length() > 1 && word.endsWith("y") && "aeiou".indexOf(word.charAt(word.length() - 2)) < 0) {
+            return word.substring(0, word.length() - 1) + "ies";
+        }
+        return word + "s";
+    }
+
+    private static String capitalize(String name) {
+        return Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+}
@@ -0,0 +1,20 @@
+package in.oceanbytes.spring_project_generator.generators;
+
+import java.io.IOException;
+
+/**
+ * Destination for the entries of a generated project. Paths are relative, '/' separated and start with the
+ * project name, e.g. {@code demo/src/main/resources/application.yml}.
+ */
+public interface ProjectEntryWriter {
+
+    /**
+     * Creates a directory, including any missing parents (like {@code mkdir -p}).
+     */
+    void directory(String path) throws IOException;
+
+    /**
+     * Writes a file, creating any missing parent directories.
+     */
+    void file(String path, byte[] content) throws IOException;
+}
@@ -0,0 +1,37 @@
+package in.oceanbytes.spring_project_generator.generators;
+
+/**
+ * A file of a generated project: its path (as in {@link ProjectEntryWriter}), the template that renders it and,
+ * for the files of a schema entity, that entity.
+ */
+public final class ProjectFile {
+
+    private final String path;
+    private final String templateName;
+    private final EntityLayout entity;
+
+    public ProjectFile(String path, String templateName) {
+        this(path, templateName, null);
+    }
+
+    public ProjectFile(String path, String templateName, EntityLayout entity) {
+        this.path = path;
+        this.templateName = templateName;
+        this.entity = entity;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public String getTemplateName() {
+        return templateName;
+    }
+
+    /**
+     * The entity this file is generated for, or {@code null} for the project's own files.
+     */
+    public EntityLayout getEntity() {
+        return entity;
+    }
+}
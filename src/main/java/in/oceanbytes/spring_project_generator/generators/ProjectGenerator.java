@@ -0,0 +1,23 @@
+package in.oceanbytes.spring_project_generator.generators;
+
+import in.oceanbytes.spring_project_generator.models.ProjectRequest;
+
+import java.io.IOException;
+
+/**
+ * Generates the project tree for a {@link ProjectRequest}.
+ */
+public interface ProjectGenerator {
+
+    /**
+     * Generates the project into the workspace, under a top-level folder named after the project.
+     */
+    void generate(ProjectRequest request, Workspace workspace) throws IOException, InterruptedException;
+
+    /**
+     * Whether this generator needs a workspace backed by a directory on disk.
+     */
+    default boolean needsDirectory() {
+        return false;
+    }
+}
@@ -0,0 +1,181 @@
+package in.oceanbytes.spring_project_generator.generators;
+
+import in.oceanbytes.spring_project_generator.models.EntityDefinition;
+import in.oceanbytes.spring_project_generator.models.ProjectRequest;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Names and paths derived from a {@link ProjectRequest}, following the same rules as {@code main.sh}
+ * and {@code create_directories.sh} so that both engines lay out identical trees.
+ */
+public final class ProjectLayout {
+
+    private final String projectName;
+    private final String groupName;
+    private final String packagesCsv;
+    private final String apis;
+    private final String javaVersion;
+    private final String packageName;
+    private final String appClassName;
+    private final String baseDir;
+    private final List<EntityLayout> entities;
+
+    private ProjectLayout(String projectName, String groupName, String packagesCsv, String apis, String javaVersion,
+                          List<EntityLayout> entities) {
+        this.projectName = projectName;
+        this.groupName = groupName;
+        this.packagesCsv = packagesCsv;
+        this.apis = apis;
+        this.javaVersion = javaVersion;
+        // main.sh: tr -d '-' | tr '[:upper:]' '[:lower:]'
+        this.packageName = projectName.replace("-", "").toLowerCase(Locale.ROOT);
+        this.appClassName = camelize(projectName) + "Application";
+        this.baseDir = projectName + "/src/main/java/" + getBasePackageDir() + "/" + packageName;
+        this.entities = entities;
+    }
+
+    public static ProjectLayout of(ProjectRequest request) {
+        String packagesCsv = request.getPackages() == null || request.getPackages().isEmpty() ? "" : String.join(",", request.getPackages());
+        String apis = request.getApis() == null || request.getApis().isEmpty() ? "" : String.join(",", request.getApis());
+        String javaVersion = request.getJavaVersion() != null ? request.getJavaVersion() : "17";
+        List<EntityLayout> entities = new ArrayList<>();
+        if (request.hasEntities()) {
+            for (EntityDefinition entity : request.getEntities()) {
+                entities.add(EntityLayout.of(entity));
+            }
+        }
+        return new ProjectLayout(request.getProjectName(), request.getGroupName(), packagesCsv, apis, javaVersion, entities);
+    }
+
+    public String getProjectName() {
+        return projectName;
+    }
+
+    public String getGroupName() {
+        return groupName;
+    }
+
+    public String getPackagesCsv() {
+        return packagesCsv;
+    }
+
+    public String getApis() {
+        return apis;
+    }
+
+    public String getJavaVersion() {
+        return javaVersion;
+    }
+
+    public String getPackageName() {
+        return packageName;
+    }
+
+    public String getAppClassName() {
+        return appClassName;
+    }
+
+    public String getBasePackageDir() {
+        return groupName.replace('.', '/');
+    }
+
+    /**
+     * Source root of the application package, e.g. {@code demo/src/main/java/in/oceanbytes/demo}.
+     */
+    public String getBaseDir() {
+        return baseDir;
+    }
+
+    public String getResourcesDir() {
+        return projectName + "/src/main/resources";
+    }
+
+    public String getTestDir() {
+        return projectName + "/src/test/java/" + getBasePackageDir() + "/" + packageName;
+    }
+
+    /**
+     * Package directory names, trimmed and without empty entries, as {@code create_directories.sh} creates them.
+     */
+    public List<String> getPackageDirs() {
+        if (packagesCsv.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> dirs = new ArrayList<>();
+        for (String pkg : packagesCsv.split(",")) {
+            String trimmed = collapseWhitespace(pkg);
+            if (!trimmed.isEmpty()) {
+                dirs.add(trimmed);
+            }
+        }
+        return dirs;
+    }
+
+    /**
+     * Upper-cased API names in request order, as {@code generate_classes.sh} matches them.
+     */
+    public List<String> getApiNames() {
+        String trimmed = collapseWhitespace(apis);
+        if (trimmed.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<String> names = new ArrayList<>();
+        for (String api : trimmed.split(",")) {
+            names.add(api.toUpperCase(Locale.ROOT));
+        }
+        return names;
+    }
+
+    /**
+     * Entities of the request's schema, in request order. Only the template engine generates them.
+     */
+    public List<EntityLayout> getEntities() {
+        return Collections.unmodifiableList(entities);
+    }
+
+    /**
+     * Equivalent of {@code echo "$PACKAGES_CSV" | grep -iw <pkg>}: a case-insensitive whole-word match.
+     */
+    public boolean hasPackage(String pkg) {
+        return Pattern.compile("(?<![A-Za-z0-9_])" + Pattern.quote(pkg) + "(?![A-Za-z0-9_])", Pattern.CASE_INSENSITIVE)
+                .matcher(packagesCsv)
+                .find();
+    }
+
+    /**
+     * Template variables shared by every file of the project.
+     */
+    public Map<String, String> variables() {
+        Map<String, String> variables = new HashMap<>();
+        variables.put("PROJECT_NAME", projectName);
+        variables.put("GROUP_NAME", groupName);
+        variables.put("PACKAGE_NAME", packageName);
+        variables.put("APP_CLASS_NAME", appClassName);
+        variables.put("JAVA_VERSION", javaVersion);
+        return variables;
+    }
+
+    // main.sh camelize(): split on '-' and upper-case the first character of each token.
+    private static String camelize(String name) {
+        StringBuilder result = new StringBuilder(name.length());
+        for (String token : name.split("-")) {
+            if (!token.isEmpty()) {
+                result.append(token.substring(0, 1).toUpperCase(Locale.ROOT)).append(token.substring(1));
+            }
+        }
+        return result.toString();
+    }
+
+    // Equivalent of piping a value through xargs: trim and collapse inner whitespace runs.
+    private static String collapseWhitespace(String value) {
+        String trimmed = value.trim();
+        return trimmed.isEmpty() ? trimmed : String.join(" ", trimmed.split("\\s+"));
+    }
+}
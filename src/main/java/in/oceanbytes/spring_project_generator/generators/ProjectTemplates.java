@@ -0,0 +1,101 @@
+package in.oceanbytes.spring_project_generator.generators;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Loads and compiles the bundled project templates (resources/project-templates/) once at startup.
+ */
+@Component
+public class ProjectTemplates {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ProjectTemplates.class);
+
+    public static final String TEMPLATE_DIR = "/project-templates/";
+
+    public static final String[] TEMPLATE_NAMES = {
+            "application.yml", "pom.xml", "gitignore",
+            "Application.java", "ExampleController.java", "LoggingAspect.java", "ApplicationConstants.java",
+            "ServiceException.java", "ErrorDetails.java", "GlobalExceptionHandler.java",
+            "Entity.java", "EntityRepository.java", "EntityService.java", "EntityController.java"
+    };
+
+    public static final String[] API_NAMES = {"GET", "POST", "PUT", "DELETE"};
+
+    private final Map<String, Template> templates = new LinkedHashMap<>();
+    private final Map<String, String> apiMethods = new LinkedHashMap<>();
+    private final Map<String, Template> entityApiMethods = new LinkedHashMap<>();
+
+    public ProjectTemplates() throws IOException {
+        for (String name : TEMPLATE_NAMES) {
+            templates.put(name, Template.compile(name, readResource(name + ".tmpl")));
+        }
+        for (String api : API_NAMES) {
+            apiMethods.put(api, stripNewline(readResource("apis/" + api + ".tmpl")));
+            entityApiMethods.put(api, Template.compile("entity-apis/" + api, stripNewline(readResource("entity-apis/" + api + ".tmpl"))));
+        }
+        LOGGER.info("Compiled {} project templates and {} API snippets", templates.size(), apiMethods.size());
+    }
+
+    /**
+     * Classpath locations of every bundled template file.
+     */
+    public static List<String> resourcePaths() {
+        List<String> paths = new ArrayList<>();
+        for (String name : TEMPLATE_NAMES) {
+            paths.add(TEMPLATE_DIR + name + ".tmpl");
+        }
+        for (String api : API_NAMES) {
+            paths.add(TEMPLATE_DIR + "apis/" + api + ".tmpl");
+            paths.add(TEMPLATE_DIR + "entity-apis/" + api + ".tmpl");
+        }
+        return paths;
+    }
+
+    public Template get(String name) {
+        Template template = templates.get(name);
+        if (template == null) {
+            throw new IllegalArgumentException("Unknown project template: " + name);
+        }
+        return template;
+    }
+
+    /**
+     * Controller method snippets keyed by upper-case HTTP method name.
+     */
+    public Map<String, String> getApiMethods() {
+        return Collections.unmodifiableMap(apiMethods);
+    }
+
+    /**
+     * Entity controller method templates keyed by upper-case HTTP method name.
+     */
+    public Map<String, Template> getEntityApiMethods() {
+        return Collections.unmodifiableMap(entityApiMethods);
+    }
+
+    // Snippet files end with a newline; the script appends them without one.
+    private static String stripNewline(String snippet) {
+        return snippet.endsWith("\n") ? snippet.substring(0, snippet.length() - 1) : snippet;
+    }
+
+    private static String readResource(String name) throws IOException {
+        try (InputStream in = ProjectTemplates.class.getResourceAsStream(TEMPLATE_DIR + name)) {
+            if (in == null) {
+                throw new FileNotFoundException("Template file not found in resources: " + TEMPLATE_DIR + name);
+            }
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
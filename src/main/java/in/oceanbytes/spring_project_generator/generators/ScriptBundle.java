@@ -0,0 +1,170 @@
+package in.oceanbytes.spring_project_generator.generators;
+
+import in.oceanbytes.spring_project_generator.exceptions.ServiceException;
+import in.oceanbytes.spring_project_generator.utils.ChecksumUtils;
+import in.oceanbytes.spring_project_generator.utils.FileUtils;
+import in.oceanbytes.spring_project_generator.utils.ScriptUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * The bundled generator scripts, installed once into a shared read-only directory instead of being extracted
+ * into every request's working directory.
+ * <p>
+ * The directory is named after a fingerprint of the script resources, so a jar with different scripts installs
+ * into a fresh directory and older installations are removed. An installation left by an earlier run is verified
+ * against the SHA-256 of each classpath resource before it is reused, and reinstalled if it was modified.
+ */
+@Component
+public class ScriptBundle {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScriptBundle.class);
+
+    public static final String MAIN_SCRIPT = "main.sh";
+
+    @Value("${project.generator.scripts.dir:target/generator-scripts}")
+    private String scriptsRoot;
+
+    // A ReentrantLock rather than synchronized: installing does file I/O, which would pin a virtual thread's carrier.
+    private final ReentrantLock installLock = new ReentrantLock();
+    private volatile Path directory;
+
+    /**
+     * Returns the directory holding the installed scripts, installing them on first use.
+     */
+    public Path getDirectory() throws IOException {
+        Path installed = directory;
+        // One stat per request; a full checksum runs only when (re)installing.
+        if (installed != null && Files.isExecutable(installed.resolve(MAIN_SCRIPT))) {
+            return installed;
+        }
+        return install();
+    }
+
+    public Path getMainScript() throws IOException {
+        return getDirectory().resolve(MAIN_SCRIPT);
+    }
+
+    private Path install() throws IOException {
+        installLock.lock();
+        try {
+            return installLocked();
+        } finally {
+            installLock.unlock();
+        }
+    }
+
+    private Path installLocked() throws IOException {
+        if (directory != null && Files.isExecutable(directory.resolve(MAIN_SCRIPT))) {
+            return directory;
+        }
+
+        Map<String, String> checksums = resourceChecksums();
+        List<String> resources = new ArrayList<>();
+        for (String script : ScriptProjectGenerator.SCRIPTS) {
+            resources.add("/scripts/" + script);
+        }
+        Path root = Paths.get(scriptsRoot).toAbsolutePath();
+        Path target = root.resolve(ChecksumUtils.classpathFingerprint(resources));
+        Files.createDirectories(root);
+
+        if (Files.isDirectory(target) && !matches(target, checksums)) {
+            LOGGER.warn("Installed scripts in {} do not match the bundled ones, reinstalling", target);
+            deleteInstallation(target);
+        }
+        if (!Files.isDirectory(target)) {
+            // Install into a temp directory and rename it in place, so no one ever runs a partial installation.
+            Path temp = Files.createTempDirectory(root, "install_");
+            ScriptUtils.extractScriptsToTempDir(temp.toFile(), ScriptProjectGenerator.SCRIPTS);
+            if (!matches(temp, checksums)) {
+                deleteInstallation(temp);
+                throw new ServiceException("Extracted scripts do not match their checksums in " + temp);
+            }
+            makeReadOnly(temp);
+            try {
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                // Another instance sharing the directory installed the same scripts first.
+                deleteInstallation(temp);
+                if (!matches(target, checksums)) {
+                    throw e;
+                }
+            }
+            LOGGER.info("Installed generator scripts into {}", target);
+        }
+
+        removeStaleInstallations(root, target);
+        directory = target;
+        return target;
+    }
+
+    private static Map<String, String> resourceChecksums() throws IOException {
+        Map<String, String> checksums = new LinkedHashMap<>();
+        for (String script : ScriptProjectGenerator.SCRIPTS) {
+            try (InputStream in = ScriptBundle.class.getResourceAsStream("/scripts/" + script)) {
+                if (in == null) {
+                    throw new ServiceException("Script file not found in resources: /scripts/" + script);
+                }
+                checksums.put(script, ChecksumUtils.sha256Hex(in.readAllBytes()));
+            }
+        }
+        return checksums;
+    }
+
+    private static boolean matches(Path dir, Map<String, String> checksums) throws IOException {
+        for (Map.Entry<String, String> entry : checksums.entrySet()) {
+            Path script = dir.resolve(entry.getKey());
+            if (!Files.isRegularFile(script) || !Files.isExecutable(script)
+                    || !entry.getValue().equals(ChecksumUtils.sha256Hex(Files.readAllBytes(script)))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void makeReadOnly(Path dir) {
+        File[] files = dir.toFile().listFiles();
+        if (files != null) {
+            for (File file : files) {
+                file.setReadable(true, false);
+                file.setExecutable(true, false);
+                file.setWritable(false, false);
+            }
+        }
+        dir.toFile().setReadable(true, false);
+        dir.toFile().setExecutable(true, false);
+        dir.toFile().setWritable(false, false);
+    }
+
+    private static void removeStaleInstallations(Path root, Path current) throws IOException {
+        try (Stream<Path> installations = Files.list(root)) {
+            installations.filter(path -> Files.isDirectory(path) && !path.equals(current))
+                    .forEach(path -> {
+                        LOGGER.info("Removing generator scripts from another build: {}", path);
+                        deleteInstallation(path);
+                    });
+        }
+    }
+
+    // The directory is read-only, so it has to be made writable before its files can be deleted.
+    private static void deleteInstallation(Path dir) {
+        dir.toFile().setWritable(true, false);
+        FileUtils.deleteRecursively(dir.toFile());
+    }
+}
@@ -0,0 +1,92 @@
+package in.oceanbytes.spring_project_generator.generators;
+
+import in.oceanbytes.spring_project_generator.exceptions.ServiceException;
+import in.oceanbytes.spring_project_generator.executors.ProcessWatchdog;
+import in.oceanbytes.spring_project_generator.metrics.GenerationMetrics;
+import in.oceanbytes.spring_project_generator.models.ProjectRequest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Fallback generation engine that runs the bundled bash scripts (resources/scripts/) in the working directory.
+ */
+@Component
+public class ScriptProjectGenerator implements ProjectGenerator {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScriptProjectGenerator.class);
+
+    public static final String[] SCRIPTS = {"main.sh", "create_directories.sh", "generate_configs.sh", "generate_classes.sh"};
+
+    private static final String ENGINE = "script";
+
+    private final ScriptBundle scriptBundle;
+    private final ProcessWatchdog processWatchdog;
+    private final GenerationMetrics generationMetrics;
+
+    public ScriptProjectGenerator(ScriptBundle scriptBundle, ProcessWatchdog processWatchdog, GenerationMetrics generationMetrics) {
+        this.scriptBundle = scriptBundle;
+        this.processWatchdog = processWatchdog;
+        this.generationMetrics = generationMetrics;
+    }
+
+    @Override
+    public void generate(ProjectRequest request, Workspace workspace) throws IOException, InterruptedException {
+        ProjectLayout layout = ProjectLayout.of(request);
+        Path workingDir = workspace.getDirectory();
+        if (workingDir == null) {
+            throw new ServiceException("The script engine needs a workspace on disk.");
+        }
+
+        // The scripts are installed once in a shared directory; only the first request pays for extracting them.
+        long extractStart = generationMetrics.start();
+        File mainScriptFile = scriptBundle.getMainScript().toFile();
+        generationMetrics.recordStage(GenerationMetrics.STAGE_EXTRACT, ENGINE, extractStart);
+
+        // Prepare the command based on the operating system.
+        String osName = System.getProperty("os.name").toLowerCase();
+        LOGGER.debug("osName : {}", osName);
+
+        List<String> scriptArguments = new ArrayList<>();
+        if (osName.contains("win")) {
+            scriptArguments.add("bash");
+        }
+        scriptArguments.add(mainScriptFile.getAbsolutePath());
+        scriptArguments.add(layout.getProjectName());
+        scriptArguments.add(layout.getGroupName());
+        scriptArguments.add(layout.getPackagesCsv());
+        scriptArguments.add(layout.getApis());
+        scriptArguments.add(layout.getJavaVersion());
+
+        long scriptStart = generationMetrics.start();
+        ProcessBuilder pb = new ProcessBuilder(scriptArguments);
+        pb.directory(workingDir.toFile());
+        ProcessWatchdog.Result result;
+        try {
+            result = processWatchdog.run(pb);
+        } finally {
+            generationMetrics.recordStage(GenerationMetrics.STAGE_SCRIPT, ENGINE, scriptStart);
+        }
+
+        // Log error output if any.
+        if (!result.getStderr().isEmpty()) {
+            LOGGER.error(result.getStderr().stripTrailing());
+        }
+        int exitCode = result.getExitCode();
+        if (exitCode != 0) {
+            generationMetrics.recordScriptFailure(exitCode);
+            throw new ServiceException("Script execution failed with exit code " + exitCode);
+        }
+    }
+
+    @Override
+    public boolean needsDirectory() {
+        return true;
+    }
+}
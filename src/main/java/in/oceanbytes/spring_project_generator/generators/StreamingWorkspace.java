@@ -0,0 +1,67 @@
+package in.oceanbytes.spring_project_generator.generators;
+
+import in.oceanbytes.spring_project_generator.exceptions.WorkspaceLimitExceededException;
+import in.oceanbytes.spring_project_generator.utils.ZipArchiveEntry;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+/**
+ * Workspace that holds nothing: every entry goes straight into the zip archive on the stream it was created with,
+ * without any file system access, so memory stays flat however large the project is.
+ * Generation fails once the file contents exceed {@code maxBytes}.
+ */
+public class StreamingWorkspace implements Workspace, ProjectEntryWriter {
+
+    private final OutputStream out;
+    private final long maxBytes;
+    private final StreamingZipEntryWriter entries;
+
+    public StreamingWorkspace(OutputStream out, int level, ZipArchiveEntry.Factory entryFactory, long maxBytes) {
+        this.out = out;
+        this.maxBytes = maxBytes;
+        this.entries = new StreamingZipEntryWriter(out, level, entryFactory);
+    }
+
+    @Override
+    public ProjectEntryWriter entryWriter() {
+        return this;
+    }
+
+    @Override
+    public Path getDirectory() {
+        return null;
+    }
+
+    @Override
+    public void directory(String path) throws IOException {
+        entries.directory(path);
+    }
+
+    @Override
+    public void file(String path, byte[] content) throws IOException {
+        if (entries.getByteCount() + content.length > maxBytes) {
+            throw new WorkspaceLimitExceededException("Generated project exceeds the workspace limit of " + maxBytes + " bytes.");
+        }
+        entries.file(path, content);
+    }
+
+    /**
+     * Finishes the archive, which has been written while generating. The stream must be the one this workspace
+     * was created with; the level and entry factory were fixed at creation.
+     */
+    @Override
+    public int zipTo(String projectName, OutputStream out, int level, ZipArchiveEntry.Factory entryFactory) throws IOException {
+        if (out != this.out) {
+            throw new IllegalArgumentException("A streaming workspace can only finish the stream it was created with.");
+        }
+        entries.finish();
+        return entries.getFileCount();
+    }
+
+    @Override
+    public void close() {
+        // Nothing to release; entries were written as they were generated.
+    }
+}
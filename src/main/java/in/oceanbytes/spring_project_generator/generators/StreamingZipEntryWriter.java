@@ -0,0 +1,119 @@
+package in.oceanbytes.spring_project_generator.generators;
+
+import in.oceanbytes.spring_project_generator.utils.FutureUtils;
+import in.oceanbytes.spring_project_generator.utils.ZipArchiveEntry;
+import in.oceanbytes.spring_project_generator.utils.ZipArchiveWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Writes project entries into a zip archive as they arrive, adding a directory entry for every parent directory the
+ * first time it is seen (the same layout {@code FileUtils.zipDirectory} produces).
+ * Files are compressed in parallel on the common fork-join pool but written in the order they were added; once
+ * {@code window} entries are waiting the caller blocks until the oldest one is written, so memory stays bounded by
+ * the window rather than by the size of the project.
+ */
+public class StreamingZipEntryWriter implements ProjectEntryWriter {
+
+    // With a common pool parallelism of 1, supplyAsync starts a new thread per task, so compress on the caller instead.
+    private static final boolean PARALLEL = ForkJoinPool.getCommonPoolParallelism() > 1;
+
+    private final ZipArchiveWriter writer;
+    private final int level;
+    private final ZipArchiveEntry.Factory entryFactory;
+    private final int window;
+    private final Set<String> directories = new HashSet<>();
+    private final Deque<CompletableFuture<ZipArchiveEntry>> pending = new ArrayDeque<>();
+    private int fileCount;
+    private long byteCount;
+
+    /**
+     * @param level        compression level: 0 stores files uncompressed, 1-9 or -1 (default) deflate them
+     * @param entryFactory creates the file entries, e.g. from a pool of precompressed entries
+     */
+    public StreamingZipEntryWriter(OutputStream out, int level, ZipArchiveEntry.Factory entryFactory) {
+        this(out, level, entryFactory, 2 * ForkJoinPool.getCommonPoolParallelism());
+    }
+
+    public StreamingZipEntryWriter(OutputStream out, int level, ZipArchiveEntry.Factory entryFactory, int window) {
+        this.writer = new ZipArchiveWriter(out, ZipArchiveWriter.REPRODUCIBLE_TIME);
+        this.level = level;
+        this.entryFactory = entryFactory;
+        this.window = Math.max(1, window);
+    }
+
+    @Override
+    public void directory(String path) throws IOException {
+        int end = path.indexOf('/');
+        while (true) {
+            String dir = end < 0 ? path : path.substring(0, end);
+            if (!dir.isEmpty() && directories.add(dir)) {
+                enqueue(CompletableFuture.completedFuture(ZipArchiveEntry.directory(dir + "/")));
+            }
+            if (end < 0) {
+                return;
+            }
+            end = path.indexOf('/', end + 1);
+        }
+    }
+
+    @Override
+    public void file(String path, byte[] content) throws IOException {
+        int slash = path.lastIndexOf('/');
+        if (slash > 0) {
+            directory(path.substring(0, slash));
+        }
+        enqueue(PARALLEL
+                ? CompletableFuture.supplyAsync(() -> entryFactory.file(path, content, level))
+                : CompletableFuture.completedFuture(entryFactory.file(path, content, level)));
+        fileCount++;
+        byteCount += content.length;
+    }
+
+    /**
+     * Writes the entries still being compressed and the central directory. The stream is not closed.
+     */
+    public void finish() throws IOException {
+        while (!pending.isEmpty()) {
+            writeOldest();
+        }
+        writer.finish();
+    }
+
+    /**
+     * Number of files (not directories) added so far.
+     */
+    public int getFileCount() {
+        return fileCount;
+    }
+
+    /**
+     * Total size of the file contents added so far.
+     */
+    public long getByteCount() {
+        return byteCount;
+    }
+
+    private void enqueue(CompletableFuture<ZipArchiveEntry> entry) throws IOException {
+        pending.addLast(entry);
+        while (pending.size() > window) {
+            writeOldest();
+        }
+    }
+
+    private void writeOldest() throws IOException {
+        try {
+            writer.write(FutureUtils.getUnwrapped(pending.removeFirst()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Project generation interrupted", e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package in.oceanbytes.spring_project_generator.generators;
+
+import in.oceanbytes.spring_project_generator.exceptions.ServiceException;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A project file template, parsed once into literal text and {@code ${VARIABLE}} placeholders.
+ * Rendering is a single pass of appends, with no scanning of the template source per request.
+ */
+public final class Template {
+
+    private final String name;
+    // literals.length == variables.length + 1; output is literals[0] + vars[0] + literals[1] + ...
+    private final String[] literals;
+    private final String[] variables;
+    // Distinct variable names, in order of first use.
+    private final List<String> variableNames;
+    private final int literalLength;
+
+    private Template(String name, String[] literals, String[] variables) {
+        this.name = name;
+        this.literals = literals;
+        this.variables = variables;
+        this.variableNames = List.copyOf(new LinkedHashSet<>(Arrays.asList(variables)));
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static Template compile(String name, String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        int position = 0;
+        int start;
+        while ((start = source.indexOf("${", position)) >= 0) {
+            int end = source.indexOf('}', start + 2);
+            if (end < 0) {
+                throw new IllegalArgumentException("Unterminated placeholder in template " + name + " at offset " + start);
+            }
+            literals.add(source.substring(position, start));
+            variables.add(source.substring(start + 2, end));
+            position = end + 1;
+        }
+        literals.add(source.substring(position));
+        return new Template(name, literals.toArray(new String[0]), variables.toArray(new String[0]));
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Names of the variables the template uses; its output depends on nothing else.
+     */
+    public List<String> getVariableNames() {
+        return variableNames;
+    }
+
+    public String render(Map<String, String> values) {
+        StringBuilder out = new StringBuilder(literalLength + variables.length * 16);
+        renderTo(out, values);
+        return out.toString();
+    }
+
+    public void renderTo(StringBuilder out, Map<String, String> values) {
+        out.append(literals[0]);
+        for (int i = 0; i < variables.length; i++) {
+            String value = values.get(variables[i]);
+            if (value == null) {
+                throw new ServiceException("Unbound variable " + variables[i] + " in template " + name);
+            }
+            out.append(value).append(literals[i + 1]);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package in.oceanbytes.spring_project_generator.generators;
+
+import in.oceanbytes.spring_project_generator.models.ProjectRequest;
+import in.oceanbytes.spring_project_generator.utils.FutureUtils;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * In-JVM generation engine. Renders the same tree as {@code scripts/main.sh} from the precompiled
+ * {@link ProjectTemplates}, without forking any process.
+ * <p>
+ * Schema entities, which only this engine supports, are rendered in parallel on the common fork-join pool and
+ * handed to the writer in schema order as they complete. At most a few entities per core are in flight, so a
+ * streaming writer keeps memory flat however large the schema is.
+ */
+@Component
+public class TemplateProjectGenerator implements ProjectGenerator {
+
+    private final ProjectTemplates templates;
+
+    public TemplateProjectGenerator(ProjectTemplates templates) {
+        this.templates = templates;
+    }
+
+    @Override
+    public void generate(ProjectRequest request, Workspace workspace) throws IOException {
+        render(ProjectLayout.of(request), workspace.entryWriter());
+    }
+
+    /**
+     * Renders every entry of the project into the writer, in the order the scripts create them.
+     */
+    public void render(ProjectLayout layout, ProjectEntryWriter writer) throws IOException {
+        for (String directory : directories(layout)) {
+            writer.directory(directory);
+        }
+        Map<String, String> variables = variables(layout);
+        for (ProjectFile file : projectFiles(layout)) {
+            writer.file(file.getPath(), render(file, variables));
+        }
+        if (!layout.getEntities().isEmpty()) {
+            renderEntities(layout, variables, writer);
+        }
+    }
+
+    private void renderEntities(ProjectLayout layout, Map<String, String> variables, ProjectEntryWriter writer) throws IOException {
+        int window = 2 * ForkJoinPool.getCommonPoolParallelism();
+        Deque<CompletableFuture<RenderedEntity>> pending = new ArrayDeque<>();
+        try {
+            for (EntityLayout entity : layout.getEntities()) {
+                if (pending.size() >= window) {
+                    write(FutureUtils.getUnwrapped(pending.removeFirst()), writer);
+                }
+                // With a common pool parallelism of 1, supplyAsync would start a thread per entity.
+                pending.addLast(window > 2
+                        ? CompletableFuture.supplyAsync(() -> renderEntity(layout, entity, variables))
+                        : CompletableFuture.completedFuture(renderEntity(layout, entity, variables)));
+            }
+            while (!pending.isEmpty()) {
+                write(FutureUtils.getUnwrapped(pending.removeFirst()), writer);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Project generation interrupted", e);
+        } finally {
+            pending.forEach(future -> future.cancel(false));
+        }
+    }
+
+    private RenderedEntity renderEntity(ProjectLayout layout, EntityLayout entity, Map<String, String> projectVariables) {
+        List<ProjectFile> files = entityFiles(layout, entity);
+        Map<String, String> variables = entityVariables(layout, entity, projectVariables);
+        List<byte[]> contents = new ArrayList<>(files.size());
+        for (ProjectFile file : files) {
+            contents.add(render(file, variables));
+        }
+        return new RenderedEntity(files, contents);
+    }
+
+    private static void write(RenderedEntity entity, ProjectEntryWriter writer) throws IOException {
+        for (int i = 0; i < entity.files.size(); i++) {
+            writer.file(entity.files.get(i).getPath(), entity.contents.get(i));
+        }
+    }
+
+    /**
+     * Directories of the project, as {@code create_directories.sh} creates them.
+     */
+    public List<String> directories(ProjectLayout layout) {
+        String baseDir = layout.getBaseDir();
+        List<String> directories = new ArrayList<>();
+        directories.add(baseDir);
+        directories.add(layout.getResourcesDir());
+        directories.add(layout.getTestDir());
+        for (String pkg : layout.getPackageDirs()) {
+            directories.add(baseDir + "/" + pkg);
+        }
+        return directories;
+    }
+
+    /**
+     * Files of the project, in the order the scripts write them, followed by the files of each schema entity.
+     * Nothing is rendered yet.
+     */
+    public List<ProjectFile> files(ProjectLayout layout) {
+        List<ProjectFile> files = projectFiles(layout);
+        for (EntityLayout entity : layout.getEntities()) {
+            files.addAll(entityFiles(layout, entity));
+        }
+        return files;
+    }
+
+    private List<ProjectFile> projectFiles(ProjectLayout layout) {
+        String baseDir = layout.getBaseDir();
+        List<ProjectFile> files = new ArrayList<>();
+
+        // generate_configs.sh
+        files.add(new ProjectFile(layout.getResourcesDir() + "/application.yml", "application.yml"));
+        files.add(new ProjectFile(layout.getProjectName() + "/pom.xml", "pom.xml"));
+        files.add(new ProjectFile(layout.getProjectName() + "/.gitignore", "gitignore"));
+
+        // generate_classes.sh
+        files.add(new ProjectFile(baseDir + "/" + layout.getAppClassName() + ".java", "Application.java"));
+
+        if (layout.hasPackage("controllers")) {
+            files.add(new ProjectFile(baseDir + "/controllers/ExampleController.java", "ExampleController.java"));
+        }
+        if (layout.hasPackage("aspects")) {
+            files.add(new ProjectFile(baseDir + "/aspects/LoggingAspect.java", "LoggingAspect.java"));
+        }
+        if (layout.hasPackage("constants")) {
+            files.add(new ProjectFile(baseDir + "/constants/ApplicationConstants.java", "ApplicationConstants.java"));
+        }
+        if (layout.hasPackage("exceptions")) {
+            files.add(new ProjectFile(baseDir + "/exceptions/ServiceException.java", "ServiceException.java"));
+            files.add(new ProjectFile(baseDir + "/exceptions/ErrorDetails.java", "ErrorDetails.java"));
+            files.add(new ProjectFile(baseDir + "/exceptions/GlobalExceptionHandler.java", "GlobalExceptionHandler.java"));
+        }
+        return files;
+    }
+
+    private static List<ProjectFile> entityFiles(ProjectLayout layout, EntityLayout entity) {
+        String baseDir = layout.getBaseDir();
+        String name = entity.getName();
+        return List.of(
+                new ProjectFile(baseDir + "/entities/" + name + ".java", "Entity.java", entity),
+                new ProjectFile(baseDir + "/repositories/" + name + "Repository.java", "EntityRepository.java", entity),
+                new ProjectFile(baseDir + "/services/" + name + "Service.java", "EntityService.java", entity),
+                new ProjectFile(baseDir + "/controllers/" + name + "Controller.java", "EntityController.java", entity));
+    }
+
+    /**
+     * Template variables of the project, including the controller methods when there is a controller.
+     */
+    public Map<String, String> variables(ProjectLayout layout) {
+        Map<String, String> variables = layout.variables();
+        if (layout.hasPackage("controllers")) {
+            variables.put("API_METHODS", renderApiMethods(layout));
+        }
+        return variables;
+    }
+
+    /**
+     * Template variables of one file: the project variables, plus the entity's own for the files of a schema entity.
+     */
+    public Map<String, String> variables(ProjectLayout layout, ProjectFile file) {
+        Map<String, String> variables = variables(layout);
+        return file.getEntity() == null ? variables : entityVariables(layout, file.getEntity(), variables);
+    }
+
+    private Map<String, String> entityVariables(ProjectLayout layout, EntityLayout entity, Map<String, String> projectVariables) {
+        Map<String, String> variables = new HashMap<>(projectVariables);
+        variables.putAll(entity.variables());
+        variables.put("ENTITY_METHODS", renderEntityMethods(layout, variables));
+        return variables;
+    }
+
+    public Template template(ProjectFile file) {
+        return templates.get(file.getTemplateName());
+    }
+
+    public byte[] render(ProjectFile file, Map<String, String> variables) {
+        return template(file).render(variables).getBytes(StandardCharsets.UTF_8);
+    }
+
+    private String renderApiMethods(ProjectLayout layout) {
+        Map<String, String> apiMethods = templates.getApiMethods();
+        StringBuilder methods = new StringBuilder();
+        for (String api : layout.getApiNames()) {
+            String snippet = apiMethods.get(api);
+            // Unknown API types are skipped, as in the script.
+            if (snippet != null) {
+                methods.append('\n').append(snippet);
+            }
+        }
+        return methods.toString();
+    }
+
+    // The entity controllers get the same API selection as ExampleController.
+    private String renderEntityMethods(ProjectLayout layout, Map<String, String> variables) {
+        Map<String, Template> entityApiMethods = templates.getEntityApiMethods();
+        StringBuilder methods = new StringBuilder();
+        for (String api : layout.getApiNames()) {
+            Template snippet = entityApiMethods.get(api);
+            if (snippet != null) {
+                methods.append('\n').append(snippet.render(variables));
+            }
+        }
+        return methods.toString();
+    }
+
+    private static final class RenderedEntity {
+        private final List<ProjectFile> files;
+        private final List<byte[]> contents;
+
+        private RenderedEntity(List<ProjectFile> files, List<byte[]> contents) {
+            this.files = files;
+            this.contents = contents;
+        }
+    }
+}
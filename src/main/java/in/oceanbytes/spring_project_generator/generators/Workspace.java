@@ -0,0 +1,34 @@
+package in.oceanbytes.spring_project_generator.generators;
+
+import in.oceanbytes.spring_project_generator.utils.ZipArchiveEntry;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+/**
+ * Where a project is generated: straight into the zip archive or a scratch directory on disk that is archived afterwards.
+ * Closing the workspace discards everything in it.
+ */
+public interface Workspace extends Closeable {
+
+    /**
+     * Destination for generated entries.
+     */
+    ProjectEntryWriter entryWriter();
+
+    /**
+     * The directory backing this workspace, or {@code null} if entries go straight into the archive.
+     */
+    Path getDirectory();
+
+    /**
+     * Writes the generated project as a complete zip archive and returns the number of files in it.
+     * The stream is not closed.
+     */
+    int zipTo(String projectName, OutputStream out, int level, ZipArchiveEntry.Factory entryFactory) throws IOException;
+
+    @Override
+    void close();
+}
@@ -0,0 +1,58 @@
+package in.oceanbytes.spring_project_generator.generators;
+
+import in.oceanbytes.spring_project_generator.storage.ArtifactJournal;
+import in.oceanbytes.spring_project_generator.utils.ZipArchiveEntry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Paths;
+
+/**
+ * Creates the workspace for a generation. In {@code memory} mode (the default) projects are generated and streamed
+ * into the archive without touching the disk; generators that run external processes, i.e. the script engine, always get a disk
+ * workspace under {@code project.generator.workspace.dir}, which can point at a tmpfs such as {@code /dev/shm}.
+ */
+@Component
+public class WorkspaceFactory {
+
+    private static final String MODE_MEMORY = "memory";
+    private static final String MODE_DISK = "disk";
+
+    // Workspace mode: memory (entries streamed into the archive) or disk (temporary directory per request).
+    @Value("${project.generator.workspace.mode:memory}")
+    private String mode;
+
+    // Upper bound on the generated file contents of a single request.
+    @Value("${project.generator.workspace.max-bytes:16777216}")
+    private long maxBytes;
+
+    @Value("${project.generator.workspace.dir:target/generated-projects}")
+    private String directory;
+
+    private final ArtifactJournal journal;
+
+    public WorkspaceFactory(ArtifactJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Creates the workspace for one generation. A memory workspace writes the archive into {@code out} while the
+     * project is generated; a disk workspace writes it on {@link Workspace#zipTo}.
+     */
+    public Workspace create(ProjectGenerator generator, OutputStream out, int level, ZipArchiveEntry.Factory entryFactory) throws IOException {
+        if (MODE_MEMORY.equals(layout(generator))) {
+            return new StreamingWorkspace(out, level, entryFactory, maxBytes);
+        }
+        return DiskWorkspace.create(Paths.get(directory), maxBytes, journal);
+    }
+
+    /**
+     * The workspace mode {@link #create} uses for the generator. It decides the entry order of the archive: a memory
+     * workspace writes entries in the order they are generated, a disk workspace in sorted path order.
+     */
+    public String layout(ProjectGenerator generator) {
+        return MODE_MEMORY.equalsIgnoreCase(mode) && !generator.needsDirectory() ? MODE_MEMORY : MODE_DISK;
+    }
+}
@@ -0,0 +1,115 @@
+package in.oceanbytes.spring_project_generator.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer meters for the generation pipeline:
+ * <ul>
+ *     <li>{@code generator.stage.duration{stage,engine}}: time spent in each stage</li>
+ *     <li>{@code generator.generation.duration{mode,engine,outcome}}: a whole generation</li>
+ *     <li>{@code generator.script.failures{exit_code}}: script runs that exited non-zero</li>
+ *     <li>{@code generator.script.kills{reason}}: script process trees killed on timeout or cancellation</li>
+ *     <li>{@code generator.archive.size} and {@code generator.archive.files}: per generated archive</li>
+ * </ul>
+ * Timers publish percentile histograms, so p99 can be computed on the Prometheus side. Meters are resolved once
+ * and cached, so recording costs a map lookup and a histogram update.
+ */
+@Component
+public class GenerationMetrics {
+
+    public static final String STAGE_CACHE_LOOKUP = "cache_lookup";
+    public static final String STAGE_GENERATE = "generate";
+    public static final String STAGE_EXTRACT = "extract";
+    public static final String STAGE_SCRIPT = "script";
+    public static final String STAGE_ZIP = "zip";
+    public static final String STAGE_CLEANUP = "cleanup";
+    public static final String STAGE_CACHE_STORE = "cache_store";
+
+    public static final String MODE_FILE = "file";
+    public static final String MODE_STREAM = "stream";
+    public static final String MODE_MEMORY = "memory";
+    public static final String MODE_PREWARM = "prewarm";
+
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(60);
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> stageTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> generationTimers = new ConcurrentHashMap<>();
+    private final Map<Integer, Counter> scriptFailures = new ConcurrentHashMap<>();
+    private final Map<String, Counter> scriptKills = new ConcurrentHashMap<>();
+    private final DistributionSummary archiveBytes;
+    private final DistributionSummary archiveFiles;
+
+    public GenerationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.archiveBytes = DistributionSummary.builder("generator.archive.size")
+                .baseUnit("bytes")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(1024.0)
+                .maximumExpectedValue(64.0 * 1024 * 1024)
+                .register(meterRegistry);
+        this.archiveFiles = DistributionSummary.builder("generator.archive.files")
+                .baseUnit("files")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Start time for a later {@link #recordStage} or {@link #recordGeneration}.
+     */
+    public long start() {
+        return System.nanoTime();
+    }
+
+    public void recordStage(String stage, String engine, long startNanos) {
+        stageTimers.computeIfAbsent(stage + '|' + engine, key -> Timer.builder("generator.stage.duration")
+                        .tag("stage", stage)
+                        .tag("engine", engine)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(MIN_EXPECTED)
+                        .maximumExpectedValue(MAX_EXPECTED)
+                        .register(meterRegistry))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordGeneration(String mode, String engine, boolean success, long startNanos) {
+        String outcome = success ? "success" : "failure";
+        generationTimers.computeIfAbsent(mode + '|' + engine + '|' + outcome, key -> Timer.builder("generator.generation.duration")
+                        .tag("mode", mode)
+                        .tag("engine", engine)
+                        .tag("outcome", outcome)
+                        .publishPercentileHistogram()
+                        .minimumExpectedValue(MIN_EXPECTED)
+                        .maximumExpectedValue(MAX_EXPECTED)
+                        .register(meterRegistry))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordScriptFailure(int exitCode) {
+        scriptFailures.computeIfAbsent(exitCode, code -> Counter.builder("generator.script.failures")
+                        .tag("exit_code", String.valueOf(code))
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    public void recordScriptKill(String reason) {
+        scriptKills.computeIfAbsent(reason, key -> Counter.builder("generator.script.kills")
+                        .tag("reason", key)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    public void recordArchive(int files, long bytes) {
+        archiveFiles.record(files);
+        archiveBytes.record(bytes);
+    }
+}
@@ -0,0 +1,47 @@
+package in.oceanbytes.spring_project_generator.models;
+
+/**
+ * Outcome of one project in a batch, as listed in the batch report.
+ */
+public class BatchProjectResult {
+
+    private final int index;
+    private final String projectName;
+    private final String folder;
+    private boolean success;
+    private String message;
+
+    public BatchProjectResult(int index, String projectName, String folder) {
+        this.index = index;
+        this.projectName = projectName;
+        this.folder = folder;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public String getProjectName() {
+        return projectName;
+    }
+
+    public String getFolder() {
+        return folder;
+    }
+
+    public boolean isSuccess() {
+        return success;
+    }
+
+    public void setSuccess(boolean success) {
+        this.success = success;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,30 @@
+package in.oceanbytes.spring_project_generator.models;
+
+import java.util.List;
+
+/**
+ * An entity of a {@link ProjectRequest} schema. The generated project gets an entity class, a repository, a service
+ * and a controller for it; every entity also gets a generated {@code Long id}.
+ */
+public class EntityDefinition {
+
+    // Class name, e.g. "PurchaseOrder".
+    private String name;
+    private List<FieldDefinition> fields;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public List<FieldDefinition> getFields() {
+        return fields;
+    }
+
+    public void setFields(List<FieldDefinition> fields) {
+        this.fields = fields;
+    }
+}
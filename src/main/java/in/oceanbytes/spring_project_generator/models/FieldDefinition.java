@@ -0,0 +1,27 @@
+package in.oceanbytes.spring_project_generator.models;
+
+/**
+ * A field of an {@link EntityDefinition}: a Java field name and one of the supported simple types
+ * (see {@code EntityLayout.FIELD_TYPES}).
+ */
+public class FieldDefinition {
+
+    private String name;
+    private String type;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+}
@@ -0,0 +1,88 @@
+package in.oceanbytes.spring_project_generator.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import java.io.File;
+import java.time.LocalDateTime;
+
+/**
+ * State of a background project generation, as reported by the job API.
+ * Transitions are synchronized, and a finished job never changes state again.
+ */
+public class GenerationJob {
+
+    private final String id;
+    private final String projectName;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+    private JobStatus status = JobStatus.QUEUED;
+    private LocalDateTime finishedAt;
+    private String message;
+    private File zipFile;
+
+    public GenerationJob(String id, String projectName) {
+        this.id = id;
+        this.projectName = projectName;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getProjectName() {
+        return projectName;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public synchronized JobStatus getStatus() {
+        return status;
+    }
+
+    public synchronized LocalDateTime getFinishedAt() {
+        return finishedAt;
+    }
+
+    public synchronized String getMessage() {
+        return message;
+    }
+
+    @JsonIgnore
+    public synchronized File getZipFile() {
+        return zipFile;
+    }
+
+    @JsonIgnore
+    public synchronized boolean isFinished() {
+        return status == JobStatus.SUCCEEDED || status == JobStatus.FAILED;
+    }
+
+    public synchronized boolean start() {
+        if (status != JobStatus.QUEUED) {
+            return false;
+        }
+        status = JobStatus.RUNNING;
+        return true;
+    }
+
+    public synchronized boolean succeed(File zipFile) {
+        if (isFinished()) {
+            return false;
+        }
+        this.zipFile = zipFile;
+        status = JobStatus.SUCCEEDED;
+        finishedAt = LocalDateTime.now();
+        return true;
+    }
+
+    public synchronized boolean fail(String message) {
+        if (isFinished()) {
+            return false;
+        }
+        this.message = message;
+        status = JobStatus.FAILED;
+        finishedAt = LocalDateTime.now();
+        return true;
+    }
+}
@@ -0,0 +1,38 @@
+package in.oceanbytes.spring_project_generator.models;
+
+import java.util.List;
+
+/**
+ * The options offered by the generator: packages, APIs and Java versions. Immutable; {@code version} changes
+ * whenever any of the options do.
+ */
+public class GeneratorCatalog {
+
+    private final String version;
+    private final List<String> packages;
+    private final List<String> apis;
+    private final List<String> javaVersions;
+
+    public GeneratorCatalog(String version, List<String> packages, List<String> apis, List<String> javaVersions) {
+        this.version = version;
+        this.packages = List.copyOf(packages);
+        this.apis = List.copyOf(apis);
+        this.javaVersions = List.copyOf(javaVersions);
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public List<String> getPackages() {
+        return packages;
+    }
+
+    public List<String> getApis() {
+        return apis;
+    }
+
+    public List<String> getJavaVersions() {
+        return javaVersions;
+    }
+}
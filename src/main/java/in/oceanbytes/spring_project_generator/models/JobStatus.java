@@ -0,0 +1,8 @@
+package in.oceanbytes.spring_project_generator.models;
+
+public enum JobStatus {
+    QUEUED,
+    RUNNING,
+    SUCCEEDED,
+    FAILED
+}
@@ -0,0 +1,32 @@
+package in.oceanbytes.spring_project_generator.models;
+
+import java.util.List;
+
+/**
+ * The tree of the project a request would generate: its directories and files, with paths as inside the archive
+ * (starting with the project name). File contents are fetched one at a time from the preview file endpoint.
+ */
+public class ProjectPreview {
+
+    private final String projectName;
+    private final List<String> directories;
+    private final List<String> files;
+
+    public ProjectPreview(String projectName, List<String> directories, List<String> files) {
+        this.projectName = projectName;
+        this.directories = List.copyOf(directories);
+        this.files = List.copyOf(files);
+    }
+
+    public String getProjectName() {
+        return projectName;
+    }
+
+    public List<String> getDirectories() {
+        return directories;
+    }
+
+    public List<String> getFiles() {
+        return files;
+    }
+}
@@ -1,13 +1,32 @@
 package in.oceanbytes.spring_project_generator.models;
 
+import in.oceanbytes.spring_project_generator.utils.ChecksumUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Locale;
+import java.util.TreeSet;
 
 public class ProjectRequest {
+
+    // Canonical API order; unknown API names sort after these, alphabetically.
+    private static final List<String> API_ORDER = Arrays.asList("GET", "POST", "PUT", "DELETE");
+    private static final Comparator<String> API_COMPARATOR = Comparator
+            .comparingInt((String api) -> API_ORDER.contains(api) ? API_ORDER.indexOf(api) : API_ORDER.size())
+            .thenComparing(Comparator.naturalOrder());
+
+
     private String projectName;
     private String groupName;
     private List<String> packages;
     private List<String> apis;
     private String javaVersion;
+    // Optional zip compression level (0 = store only, 1-9, -1 = default); null uses the configured level.
+    private Integer compressionLevel;
+    // Optional entity schema; each entity gets an entity, repository, service and controller class.
+    private List<EntityDefinition> entities;
 
     public String getProjectName() {
         return projectName;
@@ -48,4 +67,142 @@ public class ProjectRequest {
     public void setJavaVersion(String javaVersion) {
         this.javaVersion = javaVersion;
     }
+
+    public Integer getCompressionLevel() {
+        return compressionLevel;
+    }
+
+    public void setCompressionLevel(Integer compressionLevel) {
+        this.compressionLevel = compressionLevel;
+    }
+
+    public List<EntityDefinition> getEntities() {
+        return entities;
+    }
+
+    public void setEntities(List<EntityDefinition> entities) {
+        this.entities = entities;
+    }
+
+    public boolean hasEntities() {
+        return entities != null && !entities.isEmpty();
+    }
+
+    /**
+     * Returns a canonical copy of this request: trimmed names, lower-cased, de-duplicated and sorted packages,
+     * upper-cased and de-duplicated APIs in canonical order, a defaulted Java version, and trimmed entity and field
+     * names and types (entity and field order is kept: it is the order of the generated files and fields).
+     * Requests that differ only in ordering, case or duplicates normalize to the same value.
+     */
+    public ProjectRequest normalize() {
+        ProjectRequest normalized = new ProjectRequest();
+        normalized.setProjectName(projectName == null ? null : projectName.trim());
+        normalized.setGroupName(groupName == null ? null : groupName.trim());
+        normalized.setPackages(normalizeList(packages, false, Comparator.naturalOrder()));
+        normalized.setApis(normalizeList(apis, true, API_COMPARATOR));
+        normalized.setJavaVersion(javaVersion == null || javaVersion.isBlank() ? "17" : javaVersion.trim());
+        normalized.setCompressionLevel(compressionLevel);
+        normalized.setEntities(normalizeEntities(entities));
+        return normalized;
+    }
+
+    /**
+     * Stable key identifying the generated output. Only meaningful on a {@link #normalize() normalized} request.
+     * Every value is length-prefixed, so two different requests never share a key, whatever their names contain.
+     */
+    public String toKey() {
+        StringBuilder key = new StringBuilder();
+        appendKey(key, projectName);
+        appendKey(key, groupName);
+        appendKey(key, packages);
+        appendKey(key, apis);
+        appendKey(key, javaVersion);
+        // Archives differ by compression level; ProjectService keys them by the effective level.
+        appendKey(key, compressionLevel == null ? null : compressionLevel.toString());
+        // A schema can be large; the key carries its digest.
+        if (hasEntities()) {
+            key.append('s').append(ChecksumUtils.sha256Hex(schemaKey()));
+        }
+        return key.toString();
+    }
+
+    private String schemaKey() {
+        StringBuilder key = new StringBuilder();
+        key.append(entities.size()).append('[');
+        for (EntityDefinition entity : entities) {
+            appendKey(key, entity.getName());
+            if (entity.getFields() == null) {
+                key.append('-');
+                continue;
+            }
+            key.append(entity.getFields().size()).append('[');
+            for (FieldDefinition field : entity.getFields()) {
+                appendKey(key, field.getName());
+                appendKey(key, field.getType());
+            }
+        }
+        return key.toString();
+    }
+
+    // A value is written as "<length>:<value>", a list as "<size>[" and its values, null as "-".
+    private static void appendKey(StringBuilder key, String value) {
+        if (value == null) {
+            key.append('-');
+        } else {
+            key.append(value.length()).append(':').append(value);
+        }
+    }
+
+    private static void appendKey(StringBuilder key, List<String> values) {
+        if (values == null) {
+            key.append('-');
+            return;
+        }
+        key.append(values.size()).append('[');
+        for (String value : values) {
+            appendKey(key, value);
+        }
+    }
+
+    private static List<EntityDefinition> normalizeEntities(List<EntityDefinition> entities) {
+        if (entities == null || entities.isEmpty()) {
+            return null;
+        }
+        List<EntityDefinition> result = new ArrayList<>(entities.size());
+        for (EntityDefinition entity : entities) {
+            EntityDefinition copy = new EntityDefinition();
+            copy.setName(trim(entity == null ? null : entity.getName()));
+            List<FieldDefinition> fields = new ArrayList<>();
+            if (entity != null && entity.getFields() != null) {
+                for (FieldDefinition field : entity.getFields()) {
+                    FieldDefinition fieldCopy = new FieldDefinition();
+                    fieldCopy.setName(trim(field == null ? null : field.getName()));
+                    fieldCopy.setType(trim(field == null ? null : field.getType()));
+                    fields.add(fieldCopy);
+                }
+            }
+            copy.setFields(fields);
+            result.add(copy);
+        }
+        return result;
+    }
+
+    private static String trim(String value) {
+        return value == null ? null : value.trim();
+    }
+
+    private static List<String> normalizeList(List<String> values, boolean upperCase, Comparator<String> order) {
+        if (values == null) {
+            return null;
+        }
+        TreeSet<String> result = new TreeSet<>(order);
+        for (String value : values) {
+            if (value == null || value.isBlank()) {
+                continue;
+            }
+            String trimmed = value.trim();
+            result.add(upperCase ? trimmed.toUpperCase(Locale.ROOT) : trimmed.toLowerCase(Locale.ROOT));
+        }
+        return result.isEmpty() ? null : new ArrayList<>(result);
+    }
 }
@@ -0,0 +1,234 @@
+package in.oceanbytes.spring_project_generator.services;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import in.oceanbytes.spring_project_generator.exceptions.ServiceException;
+import in.oceanbytes.spring_project_generator.executors.GenerationExecutor;
+import in.oceanbytes.spring_project_generator.models.BatchProjectResult;
+import in.oceanbytes.spring_project_generator.models.ProjectRequest;
+import in.oceanbytes.spring_project_generator.storage.ArtifactStore;
+import in.oceanbytes.spring_project_generator.utils.ChecksumUtils;
+import in.oceanbytes.spring_project_generator.utils.ZipArchiveEntry;
+import in.oceanbytes.spring_project_generator.utils.ZipArchiveReader;
+import in.oceanbytes.spring_project_generator.utils.ZipArchiveWriter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.Future;
+
+/**
+ * Generates many projects in one request. Projects are generated in parallel on the {@link GenerationExecutor},
+ * at most {@code threads} at a time per batch, and written in request order into a single archive with every
+ * project under its own top-level folder. Project entries are copied still compressed, as generated (with the
+ * request's compression level, the zip entry pool and parallel compression); only the report is compressed here. A project that fails is skipped and listed in {@value #REPORT_NAME}
+ * at the root of the archive; the rest of the batch still completes.
+ * <p>
+ * The archive is written to the {@link ArtifactStore} and is reproducible (fixed entry times), so its SHA-256 is a
+ * strong ETag and an interrupted download can be resumed with a Range request for the same batch.
+ */
+@Service
+public class BatchService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(BatchService.class);
+
+    static final String REPORT_NAME = "batch-report.json";
+    static final String ARCHIVE_NAME = "projects.zip";
+
+    @Value("${project.generator.batch.max-projects:100}")
+    private int maxProjects;
+
+    // Level of the batch report; the projects keep the level they were generated with.
+    @Value("${project.generator.zip.compression-level:-1}")
+    private int compressionLevel;
+
+    private final ProjectService projectService;
+    private final GenerationExecutor generationExecutor;
+    private final ArtifactStore artifactStore;
+    private final ObjectMapper objectMapper;
+
+    public BatchService(ProjectService projectService, GenerationExecutor generationExecutor, ArtifactStore artifactStore,
+                        ObjectMapper objectMapper) {
+        this.projectService = projectService;
+        this.generationExecutor = generationExecutor;
+        this.artifactStore = artifactStore;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * A finished batch archive in the artifact store, and the strong ETag of its content.
+     */
+    public static final class BatchArchive {
+        private final File file;
+        private final String eTag;
+
+        private BatchArchive(File file, String eTag) {
+            this.file = file;
+            this.eTag = eTag;
+        }
+
+        public File getFile() {
+            return file;
+        }
+
+        public String getETag() {
+            return eTag;
+        }
+    }
+
+    /**
+     * Validates the batch, admits its first projects to the generation executor (a saturated generator is reported
+     * as 429) and writes the combined archive into the artifact store, which deletes it once it expires. The archive
+     * is pinned for the caller, who must {@link ArtifactStore#release} it once it has been served.
+     */
+    public BatchArchive generateBatch(List<ProjectRequest> requests) throws IOException {
+        if (requests == null || requests.isEmpty()) {
+            throw new ServiceException("Batch must contain at least one project.");
+        }
+        if (requests.size() > maxProjects) {
+            throw new ServiceException("Batch exceeds the limit of " + maxProjects + " projects.");
+        }
+
+        BatchRun batch = new BatchRun(requests, Math.min(Math.max(1, generationExecutor.getThreads()), requests.size()));
+        batch.start();
+
+        Path artifactDir = artifactStore.newDirectory();
+        Path zipPath = artifactDir.resolve(ARCHIVE_NAME);
+        MessageDigest digest = ChecksumUtils.newDigest();
+        try (OutputStream out = new DigestOutputStream(new BufferedOutputStream(Files.newOutputStream(zipPath)), digest)) {
+            batch.writeTo(out);
+        } catch (IOException | RuntimeException e) {
+            artifactStore.discard(artifactDir);
+            throw e;
+        }
+        artifactStore.add(zipPath);
+        return new BatchArchive(zipPath.toFile(), "\"" + HexFormat.of().formatHex(digest.digest()) + "\"");
+    }
+
+    private final class BatchRun {
+        private final List<ProjectRequest> requests;
+        private final List<BatchProjectResult> results = new ArrayList<>();
+        private final List<Future<byte[]>> generations = new ArrayList<>();
+        // Number of projects of this batch generating at the same time.
+        private final int window;
+
+        private BatchRun(List<ProjectRequest> requests, int window) {
+            this.requests = requests;
+            this.window = window;
+            Set<String> folders = new HashSet<>();
+            for (int i = 0; i < requests.size(); i++) {
+                ProjectRequest request = requests.get(i);
+                String name = request == null || request.getProjectName() == null ? null : request.getProjectName().trim();
+                results.add(new BatchProjectResult(i, name, uniqueFolder(name, i, folders)));
+                generations.add(null);
+            }
+        }
+
+        // Only the first submission may reject the whole batch; later rejections fail single projects.
+        private void start() {
+            submit(0);
+            for (int i = 1; i < window; i++) {
+                trySubmit(i);
+            }
+        }
+
+        private void submit(int index) {
+            ProjectRequest request = requests.get(index);
+            generations.set(index, generationExecutor.submit(() -> projectService.generateArchive(request)));
+        }
+
+        private void trySubmit(int index) {
+            try {
+                submit(index);
+            } catch (ServiceException e) {
+                results.get(index).setMessage(e.getMessage());
+            }
+        }
+
+        private void writeTo(OutputStream out) throws IOException {
+            ZipArchiveWriter writer = new ZipArchiveWriter(out, ZipArchiveWriter.REPRODUCIBLE_TIME);
+            try {
+                for (int i = 0; i < requests.size(); i++) {
+                    byte[] archive = await(i);
+                    // Keep the window full: start the next project before copying this one.
+                    int next = i + window;
+                    if (next < requests.size()) {
+                        trySubmit(next);
+                    }
+                    if (archive != null) {
+                        copyProject(archive, results.get(i), writer);
+                    }
+                }
+
+                writer.write(ZipArchiveEntry.file(REPORT_NAME,
+                        objectMapper.writerWithDefaultPrettyPrinter().writeValueAsBytes(results), compressionLevel));
+                // Does not close: the caller owns the output stream.
+                writer.finish();
+            } finally {
+                // Stop remaining work if the client went away.
+                for (Future<byte[]> generation : generations) {
+                    if (generation != null) {
+                        generation.cancel(true);
+                    }
+                }
+            }
+        }
+
+        private byte[] await(int index) throws IOException {
+            BatchProjectResult result = results.get(index);
+            Future<byte[]> generation = generations.get(index);
+            if (generation == null) {
+                return null;
+            }
+            try {
+                byte[] archive = generationExecutor.await(generation);
+                result.setSuccess(true);
+                return archive;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Batch generation interrupted", e);
+            } catch (IOException | RuntimeException e) {
+                LOGGER.warn("Batch project {} ({}) failed: {}", index, result.getProjectName(), e.getMessage());
+                result.setMessage(e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage());
+                return null;
+            }
+        }
+    }
+
+    // Copies a project archive into the batch archive, moving its top-level folder to the result's folder. The
+    // entries keep their compressed data, CRC and sizes; only the names change.
+    private static void copyProject(byte[] archive, BatchProjectResult result, ZipArchiveWriter writer) throws IOException {
+        String prefix = result.getProjectName() + "/";
+        for (ZipArchiveEntry entry : ZipArchiveReader.entries(archive)) {
+            String name = entry.getName();
+            if (name.startsWith(prefix)) {
+                name = result.getFolder() + "/" + name.substring(prefix.length());
+            }
+            writer.write(entry.withName(name));
+        }
+    }
+
+    // Projects sharing a name get "-2", "-3", ... appended; unnamed projects are numbered.
+    private static String uniqueFolder(String name, int index, Set<String> folders) {
+        String base = name == null || name.isBlank() ? "project-" + (index + 1) : name;
+        String folder = base;
+        for (int suffix = 2; !folders.add(folder.toLowerCase(Locale.ROOT)); suffix++) {
+            folder = base + "-" + suffix;
+        }
+        return folder;
+    }
+}
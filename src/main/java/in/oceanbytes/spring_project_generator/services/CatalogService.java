@@ -0,0 +1,46 @@
+package in.oceanbytes.spring_project_generator.services;
+
+import in.oceanbytes.spring_project_generator.models.GeneratorCatalog;
+import in.oceanbytes.spring_project_generator.utils.ChecksumUtils;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Parses the configured generator options once into an immutable {@link GeneratorCatalog}.
+ */
+@Service
+public class CatalogService {
+
+    @Value("${project.generator.available-packages}")
+    private String packagesAvailable;
+
+    @Value("${project.generator.available-apis}")
+    private String apisAvailable;
+
+    @Value("${project.generator.available-java-versions}")
+    private String javaVersionsAvailable;
+
+    private GeneratorCatalog catalog;
+
+    @PostConstruct
+    public void init() {
+        List<String> packages = split(packagesAvailable);
+        List<String> apis = split(apisAvailable);
+        List<String> javaVersions = split(javaVersionsAvailable);
+        // Short content hash: the same options always get the same version, across restarts and instances.
+        String version = ChecksumUtils.sha256Hex(packages + "|" + apis + "|" + javaVersions).substring(0, 16);
+        catalog = new GeneratorCatalog(version, packages, apis, javaVersions);
+    }
+
+    public GeneratorCatalog getCatalog() {
+        return catalog;
+    }
+
+    private static List<String> split(String csv) {
+        return Arrays.stream(csv.split(",")).map(String::trim).filter(value -> !value.isEmpty()).toList();
+    }
+}
@@ -0,0 +1,139 @@
+package in.oceanbytes.spring_project_generator.services;
+
+import in.oceanbytes.spring_project_generator.exceptions.JobNotFoundException;
+import in.oceanbytes.spring_project_generator.exceptions.JobNotReadyException;
+import in.oceanbytes.spring_project_generator.executors.GenerationExecutor;
+import in.oceanbytes.spring_project_generator.models.GenerationJob;
+import in.oceanbytes.spring_project_generator.models.JobStatus;
+import in.oceanbytes.spring_project_generator.models.ProjectRequest;
+import in.oceanbytes.spring_project_generator.storage.ArtifactStore;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.File;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs project generation as background jobs, so clients get a job id immediately and poll for the result
+ * instead of holding a connection open for the whole generation.
+ * <p>
+ * Jobs share the bounded {@link GenerationExecutor} with synchronous requests, so a saturated generator rejects
+ * new jobs with 429 as well. A finished job and its archive are both dropped after {@code delete-files-after-seconds}.
+ */
+@Service
+public class JobService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JobService.class);
+
+    @Value("${delete-files-after-seconds}")
+    private long deleteAfterSeconds;
+
+    private final ProjectService projectService;
+    private final GenerationExecutor generationExecutor;
+    private final ArtifactStore artifactStore;
+
+    private final Map<String, GenerationJob> jobs = new ConcurrentHashMap<>();
+
+    // Enforces job deadlines and expires finished jobs.
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    public JobService(ProjectService projectService, GenerationExecutor generationExecutor, ArtifactStore artifactStore) {
+        this.projectService = projectService;
+        this.generationExecutor = generationExecutor;
+        this.artifactStore = artifactStore;
+    }
+
+    public GenerationJob submit(ProjectRequest projectRequest) {
+        projectService.validate(projectRequest);
+        GenerationJob job = new GenerationJob(UUID.randomUUID().toString(), projectRequest.getProjectName().trim());
+        jobs.put(job.getId(), job);
+
+        Future<File> generation;
+        try {
+            generation = generationExecutor.submit(() -> run(job, projectRequest));
+        } catch (RuntimeException e) {
+            jobs.remove(job.getId());
+            throw e;
+        }
+
+        // Same deadline as synchronous requests, counted from submission.
+        long deadlineSeconds = generationExecutor.getDeadlineSeconds();
+        scheduler.schedule(() -> {
+            if (!job.isFinished() && generation.cancel(true)
+                    && job.fail("Project generation did not finish within " + deadlineSeconds + " seconds.")) {
+                finished(job);
+            }
+        }, deadlineSeconds, TimeUnit.SECONDS);
+
+        LOGGER.debug("Submitted job {} for {}", job.getId(), job.getProjectName());
+        return job;
+    }
+
+    public GenerationJob getJob(String id) {
+        GenerationJob job = jobs.get(id);
+        if (job == null) {
+            throw new JobNotFoundException("Job not found or expired: " + id);
+        }
+        return job;
+    }
+
+    /**
+     * Returns the archive of a succeeded job, pinned in the {@link ArtifactStore} for the caller, who must
+     * {@link ArtifactStore#release} it once it has been served.
+     */
+    public File getArchive(String id) {
+        GenerationJob job = getJob(id);
+        if (job.getStatus() != JobStatus.SUCCEEDED) {
+            throw new JobNotReadyException("Job " + id + " is " + job.getStatus() + ", no archive to download.");
+        }
+        File zipFile = job.getZipFile();
+        if (!artifactStore.pin(zipFile.toPath())) {
+            throw new JobNotFoundException("Archive of job " + id + " has expired.");
+        }
+        return zipFile;
+    }
+
+    private File run(GenerationJob job, ProjectRequest projectRequest) {
+        if (!job.start()) {
+            return null;
+        }
+        try {
+            File zipFile = projectService.generateProjectInline(projectRequest);
+            if (job.succeed(zipFile)) {
+                finished(job);
+            }
+            return zipFile;
+        } catch (Exception e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            LOGGER.error("Job {} failed: {}", job.getId(), e.getMessage());
+            if (job.fail(e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage())) {
+                finished(job);
+            }
+            return null;
+        }
+    }
+
+    // The archive itself is deleted by the ArtifactStore after the same delay (or earlier, if the disk budget runs out).
+    private void finished(GenerationJob job) {
+        scheduler.schedule(() -> {
+            jobs.remove(job.getId());
+            LOGGER.debug("Expired job {}", job.getId());
+        }, deleteAfterSeconds, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
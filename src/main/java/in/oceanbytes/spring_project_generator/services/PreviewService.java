@@ -0,0 +1,130 @@
+package in.oceanbytes.spring_project_generator.services;
+
+import in.oceanbytes.spring_project_generator.cache.ArchiveCache;
+import in.oceanbytes.spring_project_generator.cache.PreviewCache;
+import in.oceanbytes.spring_project_generator.exceptions.PreviewFileNotFoundException;
+import in.oceanbytes.spring_project_generator.generators.ProjectFile;
+import in.oceanbytes.spring_project_generator.generators.ProjectLayout;
+import in.oceanbytes.spring_project_generator.generators.TemplateProjectGenerator;
+import in.oceanbytes.spring_project_generator.models.ProjectPreview;
+import in.oceanbytes.spring_project_generator.models.ProjectRequest;
+import in.oceanbytes.spring_project_generator.utils.ChecksumUtils;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Previews of a generated project without generating it: the file tree, and single files rendered on demand.
+ * Nothing is zipped and no workspace is created. Previews always come from the template engine, whose output is
+ * the same as the script engine's.
+ */
+@Service
+public class PreviewService {
+
+    private final ProjectService projectService;
+    private final TemplateProjectGenerator templateProjectGenerator;
+    private final ArchiveCache archiveCache;
+    private final PreviewCache previewCache;
+
+    public PreviewService(ProjectService projectService, TemplateProjectGenerator templateProjectGenerator,
+                          ArchiveCache archiveCache, PreviewCache previewCache) {
+        this.projectService = projectService;
+        this.templateProjectGenerator = templateProjectGenerator;
+        this.archiveCache = archiveCache;
+        this.previewCache = previewCache;
+    }
+
+    public ProjectPreview tree(ProjectRequest projectRequest) {
+        ProjectLayout layout = layout(projectRequest);
+        List<String> files = new ArrayList<>();
+        for (ProjectFile file : templateProjectGenerator.files(layout)) {
+            files.add(file.getPath());
+        }
+        return new ProjectPreview(layout.getProjectName(), templateProjectGenerator.directories(layout), files);
+    }
+
+    /**
+     * Strong ETag of the tree for the request.
+     */
+    public String treeETag(ProjectRequest projectRequest) {
+        projectService.validate(projectRequest);
+        return "\"" + ChecksumUtils.sha256Hex("tree|" + archiveCache.getFingerprint() + '|' + projectRequest.normalize().toKey()) + "\"";
+    }
+
+    /**
+     * Renders one file of the project. The path is either the full path from the tree, or a unique suffix of it
+     * such as {@code pom.xml} or {@code controllers/ExampleController.java}.
+     */
+    public RenderedFile file(ProjectRequest projectRequest, String path) {
+        ProjectLayout layout = layout(projectRequest);
+        ProjectFile file = find(templateProjectGenerator.files(layout), path);
+
+        // The file depends only on its template and the variables that template uses.
+        Map<String, String> variables = templateProjectGenerator.variables(layout, file);
+        StringBuilder key = new StringBuilder(archiveCache.getFingerprint()).append('|').append(file.getTemplateName());
+        for (String name : templateProjectGenerator.template(file).getVariableNames()) {
+            key.append('\0').append(name).append('=').append(variables.get(name));
+        }
+        String cacheKey = ChecksumUtils.sha256Hex(key.toString());
+
+        byte[] content = previewCache.get(cacheKey);
+        if (content == null) {
+            content = templateProjectGenerator.render(file, variables);
+            previewCache.put(cacheKey, content);
+        }
+        return new RenderedFile(file.getPath(), content, "\"" + cacheKey + "\"");
+    }
+
+    private ProjectLayout layout(ProjectRequest projectRequest) {
+        projectService.validate(projectRequest);
+        return ProjectLayout.of(projectRequest.normalize());
+    }
+
+    private static ProjectFile find(List<ProjectFile> files, String path) {
+        if (path == null || path.isBlank()) {
+            throw new PreviewFileNotFoundException("A file path is required.");
+        }
+        String suffix = path.startsWith("/") ? path : "/" + path;
+        List<ProjectFile> matches = new ArrayList<>();
+        for (ProjectFile file : files) {
+            if (file.getPath().equals(path)) {
+                return file;
+            }
+            if (file.getPath().endsWith(suffix)) {
+                matches.add(file);
+            }
+        }
+        if (matches.size() == 1) {
+            return matches.get(0);
+        }
+        throw new PreviewFileNotFoundException(matches.isEmpty()
+                ? "No file " + path + " in the project."
+                : "More than one file matches " + path + ", use the full path.");
+    }
+
+    public static final class RenderedFile {
+        private final String path;
+        private final byte[] content;
+        private final String eTag;
+
+        private RenderedFile(String path, byte[] content, String eTag) {
+            this.path = path;
+            this.content = content;
+            this.eTag = eTag;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public byte[] getContent() {
+            return content;
+        }
+
+        public String getETag() {
+            return eTag;
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package in.oceanbytes.spring_project_generator.services;
+
+import in.oceanbytes.spring_project_generator.cache.ArchiveCache;
+import in.oceanbytes.spring_project_generator.cache.PopularityTracker;
+import in.oceanbytes.spring_project_generator.config.PrewarmProperties;
+import in.oceanbytes.spring_project_generator.exceptions.GenerationRejectedException;
+import in.oceanbytes.spring_project_generator.executors.GenerationExecutor;
+import in.oceanbytes.spring_project_generator.models.ProjectRequest;
+import in.oceanbytes.spring_project_generator.utils.TopKSketch;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fills the archive cache ahead of demand: the warm-up list from {@code project.generator.prewarm.requests} once
+ * the application is ready, then every {@code interval-seconds} the most frequent request shapes that are not
+ * cached, but only while the generation executor is idle and one at a time, so clients never wait behind it.
+ */
+@Service
+public class PrewarmService {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(PrewarmService.class);
+
+    private final ProjectService projectService;
+    private final PopularityTracker popularityTracker;
+    private final ArchiveCache archiveCache;
+    private final GenerationExecutor generationExecutor;
+    private final PrewarmProperties properties;
+
+    private ScheduledExecutorService scheduler;
+    private long lastDecay = System.nanoTime();
+
+    public PrewarmService(ProjectService projectService, PopularityTracker popularityTracker, ArchiveCache archiveCache,
+                          GenerationExecutor generationExecutor, PrewarmProperties properties) {
+        this.projectService = projectService;
+        this.popularityTracker = popularityTracker;
+        this.archiveCache = archiveCache;
+        this.generationExecutor = generationExecutor;
+        this.properties = properties;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (!properties.isEnabled() || !archiveCache.isEnabled()) {
+            LOGGER.info("Pre-generation disabled");
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "prewarm");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(this::prewarmHottest, properties.getIntervalSeconds(), properties.getIntervalSeconds(), TimeUnit.SECONDS);
+        LOGGER.info("Pre-generation: top {} shapes with at least {} requests, every {}s; {} warm-up requests",
+                properties.getTopK(), properties.getMinCount(), properties.getIntervalSeconds(), properties.getRequests().size());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        if (scheduler != null && !properties.getRequests().isEmpty()) {
+            scheduler.execute(this::pregenerateWarmUpList);
+        }
+    }
+
+    void pregenerateWarmUpList() {
+        int generated = 0;
+        for (ProjectRequest request : properties.getRequests()) {
+            if (pregenerate(request)) {
+                generated++;
+            }
+        }
+        LOGGER.info("Warm-up: pre-generated {} of {} archives", generated, properties.getRequests().size());
+    }
+
+    void prewarmHottest() {
+        try {
+            for (TopKSketch.Candidate<ProjectRequest> candidate : popularityTracker.hottest()) {
+                if (candidate.getEstimate() < properties.getMinCount()) {
+                    break;
+                }
+                // Back off as soon as clients need the executor; the rest waits for the next idle tick.
+                if (!generationExecutor.isIdle()) {
+                    break;
+                }
+                if (pregenerate(candidate.getValue())) {
+                    LOGGER.debug("Pre-generated {} (~{} requests)", candidate.getKey(), candidate.getEstimate());
+                }
+            }
+            if (System.nanoTime() - lastDecay >= TimeUnit.SECONDS.toNanos(properties.getDecayIntervalSeconds())) {
+                popularityTracker.decay();
+                lastDecay = System.nanoTime();
+            }
+        } catch (RuntimeException e) {
+            // Keep the schedule alive.
+            LOGGER.warn("Pre-generation failed: {}", e.getMessage());
+        }
+    }
+
+    private boolean pregenerate(ProjectRequest request) {
+        try {
+            return projectService.pregenerate(request);
+        } catch (GenerationRejectedException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.warn("Could not pre-generate {}: {}", request.getProjectName(), e.getMessage());
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+}
@@ -1,10 +1,26 @@
 package in.oceanbytes.spring_project_generator.services;
 
+import in.oceanbytes.spring_project_generator.cache.ArchiveCache;
+import in.oceanbytes.spring_project_generator.cache.PopularityTracker;
+import in.oceanbytes.spring_project_generator.cache.ZipEntryPool;
+import in.oceanbytes.spring_project_generator.exceptions.InvalidEntitySchemaException;
 import in.oceanbytes.spring_project_generator.exceptions.ServiceException;
+import in.oceanbytes.spring_project_generator.executors.GenerationExecutor;
+import in.oceanbytes.spring_project_generator.generators.EntityLayout;
+import in.oceanbytes.spring_project_generator.generators.ProjectGenerator;
+import in.oceanbytes.spring_project_generator.generators.ScriptProjectGenerator;
+import in.oceanbytes.spring_project_generator.generators.TemplateProjectGenerator;
+import in.oceanbytes.spring_project_generator.generators.Workspace;
+import in.oceanbytes.spring_project_generator.generators.WorkspaceFactory;
+import in.oceanbytes.spring_project_generator.metrics.GenerationMetrics;
+import in.oceanbytes.spring_project_generator.models.EntityDefinition;
+import in.oceanbytes.spring_project_generator.models.FieldDefinition;
 import in.oceanbytes.spring_project_generator.models.ProjectRequest;
-import in.oceanbytes.spring_project_generator.utils.FileUtils;
-import in.oceanbytes.spring_project_generator.utils.ScriptUtils;
-import jakarta.annotation.PreDestroy;
+import in.oceanbytes.spring_project_generator.storage.ArtifactStore;
+import in.oceanbytes.spring_project_generator.utils.CapturingOutputStream;
+import in.oceanbytes.spring_project_generator.utils.ChecksumUtils;
+import in.oceanbytes.spring_project_generator.utils.CountingOutputStream;
+import in.oceanbytes.spring_project_generator.utils.SingleFlight;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,140 +29,424 @@ import org.springframework.stereotype.Service;
 import java.io.*;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
-import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Pattern;
 
 @Service
 public class ProjectService {
     private static final Logger LOGGER = LoggerFactory.getLogger(ProjectService.class);
 
-    @Value("${delete-files-after-seconds}")
-    private long deleteAfterSeconds;
+    private static final String ENGINE_SCRIPT = "script";
 
-    // Common directory for generated projects.
-    private static final Path GENERATED_PROJECTS_DIR = Paths.get("target", "generated-projects");
+    private static final Pattern ENTITY_NAME = Pattern.compile("[A-Z][A-Za-z0-9]*");
+    private static final Pattern FIELD_NAME = Pattern.compile("[a-z][A-Za-z0-9]*");
 
-    // Scheduler to delete generated files after 60 seconds.
-    private static final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(1);
+    // Generation engine: "template" (in-JVM) or "script" (bash fallback).
+    @Value("${project.generator.engine:template}")
+    private String engine;
 
-    public File generateProject(ProjectRequest request) throws IOException, InterruptedException {
-        // Create the base directory if it doesn't exist.
-        Files.createDirectories(GENERATED_PROJECTS_DIR);
+    // Zip compression level: 0 stores entries uncompressed, 1-9 trade speed for size, -1 is the deflate default.
+    @Value("${project.generator.zip.compression-level:-1}")
+    private int compressionLevel;
 
-        String projectName = request.getProjectName();
-        String groupName = request.getGroupName();
-        String packageCsv = request.getPackages() == null || request.getPackages().isEmpty() ? "" : String.join(",", request.getPackages());
-        String javaVersion = request.getJavaVersion() != null ? request.getJavaVersion() : "17";
-
-        // Prepare the APIs parameter (if any)
-        String apis = "";
-        if (request.getApis() != null && !request.getApis().isEmpty()) {
-            apis = String.join(",", request.getApis());
-        }
-
-        // Create a temporary working directory under GENERATED_PROJECTS_DIR for project generation.
-        Path tempDir = Files.createTempDirectory(GENERATED_PROJECTS_DIR, "project_");
-        LOGGER.debug("tempDir path : {}", tempDir);
-
-        // Extract all required scripts from resources to tempDir.
-        String[] scripts = {"main.sh", "create_directories.sh", "generate_configs.sh", "generate_classes.sh"};
-        ScriptUtils.extractScriptsToTempDir(tempDir.toFile(), scripts);
-
-        // Determine the main script file (assumed to be main.sh)
-        File mainScriptFile = new File(tempDir.toFile(), "main.sh");
-        if (!mainScriptFile.exists()) {
-            throw new FileNotFoundException("Main script not found in temporary directory.");
-        }
-
-        // Prepare the command based on the operating system.
-        String osName = System.getProperty("os.name").toLowerCase();
-        LOGGER.debug("osName : {}", osName);
-
-        List<String> scriptArguments = new ArrayList<>();
-        if (osName.contains("win")) {
-            scriptArguments.add("bash");
-        }
-        scriptArguments.add(mainScriptFile.getAbsolutePath());
-        scriptArguments.add(projectName);
-        scriptArguments.add(groupName);
-        scriptArguments.add(packageCsv);
-        scriptArguments.add(apis);
-        scriptArguments.add(javaVersion);
-
-        ProcessBuilder pb = new ProcessBuilder(scriptArguments);
-        pb.directory(tempDir.toFile());
-        Process process = pb.start();
-
-        // Log error output if any.
-        try (BufferedReader errorReader = new BufferedReader(new InputStreamReader(process.getErrorStream()))) {
-            String line;
-            while ((line = errorReader.readLine()) != null) {
-                LOGGER.error(line);
+    // Upper bounds on a request's entity schema.
+    @Value("${project.generator.entities.max-entities:500}")
+    private int maxEntities;
+
+    @Value("${project.generator.entities.max-fields:100}")
+    private int maxFields;
+
+    private final TemplateProjectGenerator templateProjectGenerator;
+    private final ScriptProjectGenerator scriptProjectGenerator;
+    private final ArchiveCache archiveCache;
+    private final PopularityTracker popularityTracker;
+    private final ZipEntryPool zipEntryPool;
+    private final WorkspaceFactory workspaceFactory;
+    private final ArtifactStore artifactStore;
+    private final GenerationExecutor generationExecutor;
+    private final GenerationMetrics generationMetrics;
+
+    // In-flight generations, keyed by normalized request.
+    private final SingleFlight<File> fileFlights = new SingleFlight<>();
+    private final SingleFlight<byte[]> archiveFlights = new SingleFlight<>();
+
+    public ProjectService(TemplateProjectGenerator templateProjectGenerator, ScriptProjectGenerator scriptProjectGenerator,
+                          ArchiveCache archiveCache, PopularityTracker popularityTracker, ZipEntryPool zipEntryPool, WorkspaceFactory workspaceFactory,
+                          ArtifactStore artifactStore, GenerationExecutor generationExecutor, GenerationMetrics generationMetrics) {
+        this.templateProjectGenerator = templateProjectGenerator;
+        this.scriptProjectGenerator = scriptProjectGenerator;
+        this.archiveCache = archiveCache;
+        this.popularityTracker = popularityTracker;
+        this.zipEntryPool = zipEntryPool;
+        this.workspaceFactory = workspaceFactory;
+        this.artifactStore = artifactStore;
+        this.generationExecutor = generationExecutor;
+        this.generationMetrics = generationMetrics;
+    }
+
+    /**
+     * Writes a generated archive into a stream supplied by the caller.
+     */
+    @FunctionalInterface
+    public interface ArchiveWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    /**
+     * Generates the project zip on the generation executor. The zip is pinned in the {@link ArtifactStore} for the
+     * caller, who must {@link ArtifactStore#release} it once it has been served.
+     */
+    public File generateProject(ProjectRequest projectRequest) throws IOException, InterruptedException {
+        validate(projectRequest);
+        ProjectRequest request = normalize(projectRequest);
+        String cacheKey = archiveKey(request);
+
+        // Concurrent identical requests share one generation and its zip file.
+        SingleFlight.Flight<File> flight = fileFlights.join(cacheKey);
+        if (!flight.isLeader()) {
+            File zipFile = generationExecutor.await(flight);
+            if (artifactStore.pin(zipFile.toPath())) {
+                return zipFile;
             }
+            // Already served and swept: generate it again.
+            return generateProject(projectRequest);
+        }
+        try {
+            File zipFile = generationExecutor.execute(() -> createZipFile(request, cacheKey));
+            flight.complete(zipFile);
+            return zipFile;
+        } catch (Throwable e) {
+            // Errors too: an unfinished flight would leave the followers waiting until their deadline.
+            flight.fail(e);
+            throw e;
         }
+    }
+
+    /**
+     * Generates the project zip on the calling thread, for work that already runs on the generation executor
+     * (background jobs). The zip is kept in the {@link ArtifactStore} for {@code delete-files-after-seconds} at most,
+     * unpinned: downloads pin it themselves.
+     */
+    public File generateProjectInline(ProjectRequest projectRequest) throws IOException, InterruptedException {
+        validate(projectRequest);
+        ProjectRequest request = normalize(projectRequest);
+        File zipFile = createZipFile(request, archiveKey(request));
+        artifactStore.release(zipFile.toPath());
+        return zipFile;
+    }
+
+    /**
+     * Generates the project archive in memory on the calling thread, serving and filling the archive cache.
+     * For work that already runs on the generation executor (batches).
+     */
+    public byte[] generateArchive(ProjectRequest projectRequest) throws IOException, InterruptedException {
+        validate(projectRequest);
+        ProjectRequest request = normalize(projectRequest);
+        String cacheKey = archiveKey(request);
 
-        int exitCode = process.waitFor();
-        if (exitCode != 0) {
-            throw new ServiceException("Script execution failed with exit code " + exitCode);
+        byte[] cached = lookupCache(request, cacheKey);
+        if (cached != null) {
+            return cached;
         }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeArchive(request, out, GenerationMetrics.MODE_MEMORY);
+        byte[] archive = out.toByteArray();
+        storeInCache(request, cacheKey, archive);
+        return archive;
+    }
 
-        // The script creates the project directory under tempDir.
-        File projectDir = new File(tempDir.toFile(), projectName);
-        if (!projectDir.exists()) {
-            throw new ServiceException("Project directory not found after script execution.");
+    /**
+     * Generates the archive for the request into the cache, unless it is cached already, without a client waiting
+     * for it. Runs on the generation executor like any other generation. Returns whether anything was generated.
+     */
+    public boolean pregenerate(ProjectRequest projectRequest) throws IOException, InterruptedException {
+        validate(projectRequest);
+        ProjectRequest request = normalize(projectRequest);
+        String cacheKey = archiveKey(request);
+        if (!archiveCache.isEnabled() || archiveCache.contains(cacheKey)) {
+            return false;
         }
+        byte[] archive = generationExecutor.execute(() -> {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            writeArchive(request, out, GenerationMetrics.MODE_PREWARM);
+            return out.toByteArray();
+        });
+        storeInCache(request, cacheKey, archive);
+        popularityTracker.markPrewarmed(cacheKey);
+        return true;
+    }
+
+    private File createZipFile(ProjectRequest request, String cacheKey) throws IOException, InterruptedException {
+        String projectName = request.getProjectName();
+
+        // Each zip gets its own directory, so requests that only share a projectName never overwrite each other.
+        // The project itself is generated in a workspace.
+        Path artifactDir = artifactStore.newDirectory();
+        LOGGER.debug("artifactDir path : {}", artifactDir);
+        Path zipPath = artifactDir.resolve(projectName + ".zip");
 
-        // Create and handle the zip file
-        Path targetZipPath = createAndHandleZipFile(projectName, tempDir, projectDir);
+        try {
+            // Serve a cached archive without generating anything.
+            byte[] cached = lookupCache(request, cacheKey);
+            if (cached != null) {
+                Files.write(zipPath, cached);
+            } else {
+                generateZipFile(request, zipPath);
 
-        // Delete the temporary directory.
-        FileUtils.deleteRecursively(tempDir.toFile());
+                if (archiveCache.isEnabled() && Files.size(zipPath) <= archiveCache.getMaxEntryBytes()) {
+                    storeInCache(request, cacheKey, Files.readAllBytes(zipPath));
+                }
+            }
+        } catch (IOException | InterruptedException | RuntimeException e) {
+            artifactStore.discard(artifactDir);
+            throw e;
+        }
+
+        // The store deletes the zip once it expires or the disk budget runs out, and it is released.
+        artifactStore.add(zipPath);
 
-        // Schedule deletion of the generated zip file after 60 seconds.
-        scheduleDeletion(targetZipPath);
+        return zipPath.toFile();
+    }
 
-        return targetZipPath.toFile();
+    private void generateZipFile(ProjectRequest request, Path zipPath) throws IOException, InterruptedException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(zipPath))) {
+            writeArchive(request, out, GenerationMetrics.MODE_FILE);
+        }
     }
 
-    private Path createAndHandleZipFile(String projectName, Path tempDir, File projectDir) throws IOException {
-        // Create the zip file in tempDir.
-        String zipFileName = projectName + ".zip";
-        File zipFileTemp = new File(tempDir.toFile(), zipFileName);
-        FileUtils.zipDirectory(projectDir, zipFileTemp);
+    /**
+     * Admits a streaming generation to the generation executor and returns a writer for the archive.
+     * Admission happens now, so a saturated executor is reported before any response is committed;
+     * the worker starts writing once {@link ArchiveWriter#writeTo} hands it the response stream.
+     */
+    public ArchiveWriter prepareStream(ProjectRequest projectRequest) {
+        validate(projectRequest);
+        ProjectRequest request = normalize(projectRequest);
+        String cacheKey = archiveKey(request);
 
-        // Clean up: delete everything inside tempDir except the zip file.
-        FileUtils.cleanWorkingDirectory(tempDir.toFile(), zipFileTemp);
+        // Cached archives need no generation slot.
+        byte[] cached = lookupCache(request, cacheKey);
+        if (cached != null) {
+            return out -> out.write(cached);
+        }
 
-        // Move the zip file to GENERATED_PROJECTS_DIR (overwriting if it exists).
-        Path targetZipPath = GENERATED_PROJECTS_DIR.resolve(zipFileName);
-        Files.move(zipFileTemp.toPath(), targetZipPath, StandardCopyOption.REPLACE_EXISTING);
+        CompletableFuture<OutputStream> responseBody = new CompletableFuture<>();
+        Future<Void> generation = generationExecutor.submit(() -> {
+            OutputStream out;
+            try {
+                out = responseBody.get(generationExecutor.getDeadlineSeconds(), TimeUnit.SECONDS);
+            } catch (ExecutionException | TimeoutException e) {
+                throw new ServiceException("Response stream was not opened in time", e);
+            }
+            streamProject(request, cacheKey, out);
+            return null;
+        });
 
-        return targetZipPath;
+        return out -> {
+            responseBody.complete(out);
+            try {
+                generationExecutor.await(generation);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Project generation interrupted", e);
+            }
+        };
     }
 
-    private void scheduleDeletion(Path targetZipPath) {
-        scheduler.schedule(() -> {
-            try {
-                Files.deleteIfExists(targetZipPath);
-                LOGGER.info("Scheduled deletion: Deleted file {}", targetZipPath);
-            } catch (IOException e) {
-                LOGGER.error(e.getMessage());
+    /**
+     * Generates the project and writes it as a zip archive straight into the output stream.
+     * In the memory workspace nothing touches the disk; the script engine still needs a working directory,
+     * but the archive is never written to a temp file.
+     */
+    private void streamProject(ProjectRequest request, String cacheKey, OutputStream out) throws IOException, InterruptedException {
+        // Concurrent identical requests wait for the first one and reuse its archive bytes.
+        SingleFlight.Flight<byte[]> flight = archiveFlights.join(cacheKey);
+        if (!flight.isLeader()) {
+            byte[] shared = generationExecutor.await(flight);
+            if (shared != null) {
+                out.write(shared);
+                return;
+            }
+            // The leader's archive was too large to share, or its download failed: generate independently.
+            writeArchive(request, out, GenerationMetrics.MODE_STREAM);
+            return;
+        }
+
+        byte[] archive = null;
+        try {
+            // Keep a bounded copy of what is streamed, so the archive can be cached and shared without a second pass.
+            CapturingOutputStream capture = new CapturingOutputStream(out, archiveCache.getMaxEntryBytes());
+            writeArchive(request, capture, GenerationMetrics.MODE_STREAM);
+            archive = capture.getCaptured();
+            if (archive != null) {
+                storeInCache(request, cacheKey, archive);
             }
-        }, deleteAfterSeconds, TimeUnit.SECONDS);
+        } finally {
+            flight.complete(archive);
+        }
+    }
+
+    /**
+     * Generates the project in a fresh workspace and writes it as a zip archive into the stream.
+     */
+    private void writeArchive(ProjectRequest request, OutputStream out, String mode) throws IOException, InterruptedException {
+        String engineName = engineName(request);
+        ProjectGenerator generator = getGenerator(request);
+        long generationStart = generationMetrics.start();
+        boolean success = false;
+        CountingOutputStream counter = new CountingOutputStream(out);
+        // In memory mode entries are streamed into the archive while they are generated, so the generate stage
+        // includes most of the compression work.
+        Workspace workspace = workspaceFactory.create(generator, counter, compressionLevel(request), zipEntryPool::file);
+        try {
+            long stageStart = generationMetrics.start();
+            generator.generate(request, workspace);
+            generationMetrics.recordStage(GenerationMetrics.STAGE_GENERATE, engineName, stageStart);
+
+            stageStart = generationMetrics.start();
+            int files = workspace.zipTo(request.getProjectName(), counter, compressionLevel(request), zipEntryPool::file);
+            generationMetrics.recordStage(GenerationMetrics.STAGE_ZIP, engineName, stageStart);
+            generationMetrics.recordArchive(files, counter.getCount());
+            success = true;
+        } finally {
+            long cleanupStart = generationMetrics.start();
+            workspace.close();
+            generationMetrics.recordStage(GenerationMetrics.STAGE_CLEANUP, engineName, cleanupStart);
+            generationMetrics.recordGeneration(mode, engineName, success, generationStart);
+        }
+    }
+
+    private byte[] lookupCache(ProjectRequest request, String cacheKey) {
+        long start = generationMetrics.start();
+        byte[] cached = archiveCache.get(cacheKey);
+        generationMetrics.recordStage(GenerationMetrics.STAGE_CACHE_LOOKUP, engineName(request), start);
+        // Every lookup counts towards the request's popularity, so hot shapes get pre-generated.
+        popularityTracker.recordLookup(request, cacheKey, cached != null);
+        return cached;
+    }
+
+    private void storeInCache(ProjectRequest request, String cacheKey, byte[] archive) {
+        long start = generationMetrics.start();
+        archiveCache.put(cacheKey, archive);
+        generationMetrics.recordStage(GenerationMetrics.STAGE_CACHE_STORE, engineName(request), start);
+    }
+
+    private int compressionLevel(ProjectRequest request) {
+        return request.getCompressionLevel() == null ? compressionLevel : request.getCompressionLevel();
+    }
+
+    /**
+     * Normalizes the request and fills in the effective compression level, so the cache key changes with the
+     * configured default level: cached archives on disk outlive a restart with a different level.
+     */
+    private ProjectRequest normalize(ProjectRequest projectRequest) {
+        ProjectRequest request = projectRequest.normalize();
+        request.setCompressionLevel(compressionLevel(request));
+        return request;
+    }
+
+    // Only the template engine renders entity schemas, so schema-driven requests always use it.
+    private ProjectGenerator getGenerator(ProjectRequest request) {
+        return ENGINE_SCRIPT.equalsIgnoreCase(engine) && !request.hasEntities() ? scriptProjectGenerator : templateProjectGenerator;
+    }
+
+    private String engineName(ProjectRequest request) {
+        return getGenerator(request) == scriptProjectGenerator ? ENGINE_SCRIPT : "template";
+    }
+
+    /**
+     * Key of the archive generated for a normalized request: the request key plus the engine and the workspace mode
+     * (the entry order), which change the bytes as well. It keys the archive cache, whose disk tier outlives a restart
+     * with another configuration, and the single flights.
+     */
+    private String archiveKey(ProjectRequest request) {
+        return engineName(request) + '|' + workspaceFactory.layout(getGenerator(request)) + '|' + request.toKey();
     }
 
     /**
-     * Deletes all regular files under the GENERATED_PROJECTS_DIR when the application is stopping.
+     * Strong ETag of the archive generated for the request. Archives are reproducible, so the same normalized
+     * request, effective compression level, engine, workspace mode (the entry order) and templates always produce
+     * the same bytes.
      */
-    @PreDestroy
-    public void cleanupOnShutdown() {
-        LOGGER.info("Cleaning up generated projects on shutdown...");
-        FileUtils.deleteFilesInDirectory(GENERATED_PROJECTS_DIR);
-        scheduler.shutdown();
+    public String eTag(ProjectRequest projectRequest) {
+        validate(projectRequest);
+        String key = archiveCache.getFingerprint() + '|' + archiveKey(normalize(projectRequest));
+        return "\"" + ChecksumUtils.sha256Hex(key) + "\"";
+    }
+
+    public void validate(ProjectRequest request) {
+        if (request.getProjectName() == null || request.getProjectName().isBlank()) {
+            throw new ServiceException("Project name is required.");
+        }
+        if (request.getGroupName() == null || request.getGroupName().isBlank()) {
+            throw new ServiceException("Group name is required.");
+        }
+        if (request.getCompressionLevel() != null && (request.getCompressionLevel() < -1 || request.getCompressionLevel() > 9)) {
+            throw new ServiceException("Compression level must be between -1 and 9.");
+        }
+        if (request.hasEntities()) {
+            validateEntities(request);
+        }
+    }
+
+    private void validateEntities(ProjectRequest request) {
+        if (request.getEntities().size() > maxEntities) {
+            throw new InvalidEntitySchemaException("A schema can have at most " + maxEntities + " entities.");
+        }
+        Set<String> entityNames = new HashSet<>();
+        Set<String> paths = new HashSet<>();
+        for (EntityDefinition entity : request.getEntities()) {
+            String name = entity == null || entity.getName() == null ? "" : entity.getName().trim();
+            if (!ENTITY_NAME.matcher(name).matches()) {
+                throw new InvalidEntitySchemaException("Entity name '" + name + "' must start with an upper-case letter and contain only letters and digits.");
+            }
+            if (EntityLayout.isReservedName(name)) {
+                throw new InvalidEntitySchemaException("Entity name '" + name + "' is reserved.");
+            }
+            // Names differing only in case would collide on case-insensitive file systems.
+            if (!entityNames.add(name.toLowerCase(Locale.ROOT))) {
+                throw new InvalidEntitySchemaException("Entity '" + name + "' is defined more than once.");
+            }
+            if (!paths.add(EntityLayout.pathName(name))) {
+                throw new InvalidEntitySchemaException("Entity '" + name + "' maps to the same path as another entity: /v1/" + EntityLayout.pathName(name) + ".");
+            }
+            validateFields(name, entity.getFields());
+        }
+    }
+
+    private void validateFields(String entityName, List<FieldDefinition> fields) {
+        if (fields == null) {
+            return;
+        }
+        if (fields.size() > maxFields) {
+            throw new InvalidEntitySchemaException("Entity '" + entityName + "' can have at most " + maxFields + " fields.");
+        }
+        Set<String> fieldNames = new HashSet<>();
+        for (FieldDefinition field : fields) {
+            String name = field == null || field.getName() == null ? "" : field.getName().trim();
+            String type = field == null || field.getType() == null ? "" : field.getType().trim();
+            if (!FIELD_NAME.matcher(name).matches() || EntityLayout.isKeyword(name)) {
+                throw new InvalidEntitySchemaException("Field name '" + entityName + "." + name + "' must be a lower camel case Java identifier.");
+            }
+            // Every entity gets a generated id.
+            if (name.equals("id")) {
+                throw new InvalidEntitySchemaException("Field '" + entityName + ".id' is generated and cannot be declared.");
+            }
+            if (!fieldNames.add(name)) {
+                throw new InvalidEntitySchemaException("Field '" + entityName + "." + name + "' is defined more than once.");
+            }
+            if (!EntityLayout.getFieldTypes().contains(type)) {
+                throw new InvalidEntitySchemaException("Field '" + entityName + "." + name + "' has unsupported type '" + type
+                        + "'; supported types are " + String.join(", ", EntityLayout.getFieldTypes()) + ".");
+            }
+        }
     }
 }
@@ -0,0 +1,234 @@
+package in.oceanbytes.spring_project_generator.storage;
+
+import in.oceanbytes.spring_project_generator.utils.FileUtils;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Append-only journal of the working directories and artifact directories that exist on disk: a {@code +} line when
+ * one is created, a {@code -} line once it is deleted. Whatever is still live when the process dies (OOM kill,
+ * {@code kill -9}) is an orphan, and is deleted by a background thread on the next startup, so recovery never walks
+ * the directory tree and never delays readiness.
+ * <p>
+ * Lines are appended without fsync: they survive a killed process, only a machine crash can lose the tail. A torn
+ * last line (no trailing newline) is ignored. The journal is rewritten with just the live entries every
+ * {@code compact-after} appends.
+ * <p>
+ * Only {@code project_*} directories directly under the artifacts or workspace directory are ever reclaimed, so a
+ * corrupted or edited journal cannot make startup delete anything else.
+ */
+@Component
+public class ArtifactJournal {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArtifactJournal.class);
+
+    private static final String JOURNAL_FILE = "artifacts.journal";
+    private static final String CREATED = "+ ";
+    private static final String DELETED = "- ";
+
+    // Name prefix of workspace and artifact directories.
+    public static final String DIRECTORY_PREFIX = "project_";
+
+    @Value("${project.generator.artifacts.dir:target/generated-projects}")
+    private String directory;
+
+    // Disk workspaces are journaled too, and may live elsewhere (e.g. a tmpfs).
+    @Value("${project.generator.workspace.dir:target/generated-projects}")
+    private String workspaceDirectory;
+
+    @Value("${project.generator.artifacts.journal.compact-after:10000}")
+    private int compactAfter;
+
+    private final MeterRegistry meterRegistry;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Set<String> live = new LinkedHashSet<>();
+    private final LongAdder reclaimed = new LongAdder();
+    private Path journalFile;
+    private FileChannel channel;
+    private int appends;
+    private boolean closed;
+
+    public ArtifactJournal(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        Path root = Paths.get(directory);
+        Files.createDirectories(root);
+        journalFile = root.resolve(JOURNAL_FILE);
+
+        // Without a journal, every project_* directory left by an older version counts as an orphan.
+        List<String> orphans = Files.exists(journalFile) ? replay(journalFile) : listDirectories(root);
+        // Usually the same directory.
+        Set<Path> roots = new HashSet<>(List.of(root.toAbsolutePath().normalize(), Paths.get(workspaceDirectory).toAbsolutePath().normalize()));
+        List<String> ignored = orphans.stream().filter(orphan -> !isReclaimable(Paths.get(orphan), roots)).toList();
+        if (!ignored.isEmpty()) {
+            LOGGER.warn("Ignoring {} journal entries outside the artifacts and workspace directories: {}", ignored.size(), ignored);
+            orphans = orphans.stream().filter(orphan -> !ignored.contains(orphan)).toList();
+        }
+        lock.lock();
+        try {
+            live.addAll(orphans);
+            compact();
+        } finally {
+            lock.unlock();
+        }
+        FunctionCounter.builder("generator.artifacts.orphans.reclaimed", reclaimed, LongAdder::sum).register(meterRegistry);
+
+        if (!orphans.isEmpty()) {
+            LOGGER.info("Reclaiming {} orphaned directories from a previous run in the background", orphans.size());
+            List<String> toReclaim = orphans;
+            Thread reclaimer = new Thread(() -> reclaim(toReclaim), "artifact-reclaim");
+            reclaimer.setDaemon(true);
+            reclaimer.start();
+        }
+    }
+
+    public void recordCreated(Path dir) {
+        String key = key(dir);
+        lock.lock();
+        try {
+            if (live.add(key)) {
+                append(CREATED + key);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void recordDeleted(Path dir) {
+        String key = key(dir);
+        lock.lock();
+        try {
+            if (live.remove(key)) {
+                append(DELETED + key);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Closes the journal. Directories that are still live are reclaimed on the next startup.
+     */
+    @PreDestroy
+    public void close() {
+        lock.lock();
+        try {
+            closed = true;
+            channel.close();
+            if (!live.isEmpty()) {
+                LOGGER.info("{} directories left for reclaim on next startup", live.size());
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not close artifact journal: {}", e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void reclaim(List<String> orphans) {
+        for (String orphan : orphans) {
+            Path dir = Paths.get(orphan);
+            if (Files.exists(dir)) {
+                FileUtils.deleteRecursively(dir.toFile());
+            }
+            recordDeleted(dir);
+            reclaimed.increment();
+        }
+        LOGGER.info("Reclaimed {} orphaned directories", orphans.size());
+    }
+
+    // Must hold the lock.
+    private void append(String line) {
+        if (closed) {
+            return;
+        }
+        try {
+            channel.write(ByteBuffer.wrap((line + "\n").getBytes(StandardCharsets.UTF_8)));
+            if (++appends >= compactAfter) {
+                compact();
+            }
+        } catch (IOException e) {
+            LOGGER.warn("Could not write artifact journal {}: {}", journalFile, e.getMessage());
+        }
+    }
+
+    // Must hold the lock. Rewrites the journal with the live entries only and swaps it in atomically.
+    private void compact() throws IOException {
+        if (channel != null) {
+            channel.close();
+        }
+        Path temp = journalFile.resolveSibling(JOURNAL_FILE + ".tmp");
+        List<String> lines = new ArrayList<>(live.size());
+        for (String key : live) {
+            lines.add(CREATED + key);
+        }
+        Files.write(temp, lines, StandardCharsets.UTF_8);
+        Files.move(temp, journalFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        channel = FileChannel.open(journalFile, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        appends = 0;
+    }
+
+    private static List<String> replay(Path journal) throws IOException {
+        String content = Files.readString(journal, StandardCharsets.UTF_8);
+        // A last line without its newline was torn by a crash mid-append.
+        int complete = content.lastIndexOf('\n') + 1;
+        Set<String> entries = new LinkedHashSet<>();
+        for (String line : content.substring(0, complete).split("\n")) {
+            if (line.startsWith(CREATED)) {
+                entries.add(line.substring(CREATED.length()));
+            } else if (line.startsWith(DELETED)) {
+                entries.remove(line.substring(DELETED.length()));
+            }
+        }
+        return new ArrayList<>(entries);
+    }
+
+    private static List<String> listDirectories(Path root) throws IOException {
+        try (Stream<Path> children = Files.list(root)) {
+            return children.filter(path -> Files.isDirectory(path) && path.getFileName().toString().startsWith(DIRECTORY_PREFIX))
+                    .map(ArtifactJournal::key)
+                    .toList();
+        }
+    }
+
+    /**
+     * Whether the directory may be deleted on recovery: a {@code project_*} directory directly under one of the roots.
+     */
+    private static boolean isReclaimable(Path dir, Set<Path> roots) {
+        Path normalized = dir.toAbsolutePath().normalize();
+        Path parent = normalized.getParent();
+        return parent != null && roots.contains(parent) && normalized.getFileName().toString().startsWith(DIRECTORY_PREFIX);
+    }
+
+    private static String key(Path dir) {
+        return dir.toAbsolutePath().normalize().toString();
+    }
+}
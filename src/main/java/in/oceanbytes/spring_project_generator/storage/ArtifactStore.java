@@ -0,0 +1,277 @@
+package in.oceanbytes.spring_project_generator.storage;
+
+import in.oceanbytes.spring_project_generator.utils.FileUtils;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Tracks the generated archives served from disk (file mode and background jobs) and deletes them once they are
+ * older than {@code delete-files-after-seconds}, or oldest first while their total size exceeds
+ * {@code project.generator.artifacts.max-bytes}.
+ * <p>
+ * Every artifact is a single file in its own directory from {@link #newDirectory()}. Expired artifacts are removed
+ * by one background sweep every {@code sweep-interval-seconds}; going over the size budget triggers a sweep right away.
+ * Artifact directories are recorded in the {@link ArtifactJournal}, so a killed process leaves nothing behind for good.
+ * <p>
+ * An artifact is pinned while a response reads it: {@link #add} pins it for its creator, {@link #pin} for every further
+ * reader, and each of them calls {@link #release} once done. Sweeps skip pinned artifacts, even expired ones, so an
+ * archive is never deleted between being generated and being served.
+ */
+@Component
+public class ArtifactStore {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ArtifactStore.class);
+
+    private static final int SHUTDOWN_THREADS = 4;
+
+    @Value("${project.generator.artifacts.dir:target/generated-projects}")
+    private String directory;
+
+    @Value("${project.generator.artifacts.max-bytes:1073741824}")
+    private long maxBytes;
+
+    @Value("${delete-files-after-seconds}")
+    private long ttlSeconds;
+
+    @Value("${project.generator.artifacts.sweep-interval-seconds:5}")
+    private long sweepIntervalSeconds;
+
+    // Shutdown stops deleting after this long; the rest is reclaimed through the journal on the next startup.
+    @Value("${project.generator.artifacts.shutdown-timeout-seconds:5}")
+    private long shutdownTimeoutSeconds;
+
+    private final ArtifactJournal journal;
+    private final MeterRegistry meterRegistry;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // Insertion-ordered: iteration starts at the oldest artifact.
+    private final LinkedHashMap<Path, Artifact> artifacts = new LinkedHashMap<>();
+    private long bytes;
+
+    private final LongAdder expired = new LongAdder();
+    private final LongAdder evicted = new LongAdder();
+    private final AtomicBoolean sweepRequested = new AtomicBoolean();
+
+    private Path root;
+    private ScheduledExecutorService sweeper;
+
+    public ArtifactStore(ArtifactJournal journal, MeterRegistry meterRegistry) {
+        this.journal = journal;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() throws IOException {
+        root = Paths.get(directory);
+        Files.createDirectories(root);
+        sweeper = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "artifact-sweeper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        sweeper.scheduleWithFixedDelay(this::sweep, sweepIntervalSeconds, sweepIntervalSeconds, TimeUnit.SECONDS);
+        LOGGER.info("Artifact store {}: ttl {}s, budget {} bytes", root, ttlSeconds, maxBytes);
+
+        Gauge.builder("generator.artifacts.size", this, store -> store.bytes).baseUnit("bytes").register(meterRegistry);
+        Gauge.builder("generator.artifacts.count", this, store -> store.artifacts.size()).register(meterRegistry);
+        FunctionCounter.builder("generator.artifacts.evictions", expired, LongAdder::sum).tag("reason", "expired").register(meterRegistry);
+        FunctionCounter.builder("generator.artifacts.evictions", evicted, LongAdder::sum).tag("reason", "budget").register(meterRegistry);
+    }
+
+    /**
+     * Creates a fresh directory for one artifact.
+     */
+    public Path newDirectory() throws IOException {
+        Path artifactDir = Files.createTempDirectory(root, ArtifactJournal.DIRECTORY_PREFIX);
+        journal.recordCreated(artifactDir);
+        return artifactDir;
+    }
+
+    /**
+     * Starts tracking a finished artifact; from now on the store deletes it, together with its directory. The artifact
+     * is pinned for the caller, who must {@link #release} it.
+     */
+    public void add(Path file) throws IOException {
+        Path artifactDir = file.getParent();
+        long size = Files.size(file);
+        boolean overBudget;
+        lock.lock();
+        try {
+            artifacts.put(artifactDir, new Artifact(size, System.currentTimeMillis() + TimeUnit.SECONDS.toMillis(ttlSeconds)));
+            bytes += size;
+            overBudget = bytes > maxBytes;
+        } finally {
+            lock.unlock();
+        }
+        if (overBudget) {
+            requestSweep();
+        }
+    }
+
+    /**
+     * Pins a tracked artifact for one more reader, who must {@link #release} it. Returns false if the artifact has
+     * already been deleted (or was never tracked).
+     */
+    public boolean pin(Path file) {
+        lock.lock();
+        try {
+            Artifact artifact = artifacts.get(file.getParent());
+            if (artifact == null) {
+                return false;
+            }
+            artifact.pins++;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Releases a pin taken by {@link #add} or {@link #pin}.
+     */
+    public void release(Path file) {
+        boolean overBudget;
+        lock.lock();
+        try {
+            Artifact artifact = artifacts.get(file.getParent());
+            if (artifact != null && artifact.pins > 0) {
+                artifact.pins--;
+            }
+            overBudget = bytes > maxBytes;
+        } finally {
+            lock.unlock();
+        }
+        // An eviction may have been skipped for this artifact.
+        if (overBudget) {
+            requestSweep();
+        }
+    }
+
+    /**
+     * Deletes an artifact directory that never made it into the store, e.g. after a failed generation.
+     */
+    public void discard(Path artifactDir) {
+        delete(artifactDir);
+    }
+
+    /**
+     * Removes expired artifacts, then the oldest ones until the store is within its budget. Pinned artifacts are
+     * skipped, and the newest artifact is always kept, so a single archive larger than the budget can still be
+     * downloaded.
+     */
+    void sweep() {
+        sweepRequested.set(false);
+        long now = System.currentTimeMillis();
+        List<Path> doomed = new ArrayList<>();
+        lock.lock();
+        try {
+            Iterator<Map.Entry<Path, Artifact>> oldest = artifacts.entrySet().iterator();
+            while (oldest.hasNext()) {
+                Map.Entry<Path, Artifact> entry = oldest.next();
+                Artifact artifact = entry.getValue();
+                if (artifact.pins > 0) {
+                    // Being served; a later sweep deletes it.
+                    continue;
+                }
+                if (artifact.expiresAt <= now) {
+                    expired.increment();
+                } else if (bytes > maxBytes && artifacts.size() > 1) {
+                    evicted.increment();
+                } else {
+                    break;
+                }
+                bytes -= artifact.size;
+                doomed.add(entry.getKey());
+                oldest.remove();
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (Path artifactDir : doomed) {
+            delete(artifactDir);
+        }
+        if (!doomed.isEmpty()) {
+            LOGGER.debug("Artifact sweep deleted {} artifacts", doomed.size());
+        }
+    }
+
+    /**
+     * Stops sweeping and deletes the tracked artifacts in parallel, giving up after {@code shutdown-timeout-seconds}
+     * so that shutdown time stays bounded however many artifacts there are.
+     */
+    @PreDestroy
+    public void shutdown() {
+        sweeper.shutdownNow();
+        List<Path> remaining;
+        lock.lock();
+        try {
+            remaining = new ArrayList<>(artifacts.keySet());
+            artifacts.clear();
+            bytes = 0;
+        } finally {
+            lock.unlock();
+        }
+        LOGGER.info("Deleting {} generated archives on shutdown", remaining.size());
+        ExecutorService deleters = Executors.newFixedThreadPool(SHUTDOWN_THREADS);
+        for (Path artifactDir : remaining) {
+            deleters.execute(() -> delete(artifactDir));
+        }
+        deleters.shutdown();
+        try {
+            if (!deleters.awaitTermination(shutdownTimeoutSeconds, TimeUnit.SECONDS)) {
+                LOGGER.warn("Shutdown timeout reached; leaving remaining archives for reclaim on next startup");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            deleters.shutdownNow();
+        }
+    }
+
+    private void requestSweep() {
+        if (sweepRequested.compareAndSet(false, true)) {
+            sweeper.execute(this::sweep);
+        }
+    }
+
+    private void delete(Path artifactDir) {
+        FileUtils.deleteRecursively(artifactDir.toFile());
+        journal.recordDeleted(artifactDir);
+    }
+
+    private static final class Artifact {
+        private final long size;
+        private final long expiresAt;
+        // Guarded by the store's lock; starts pinned for the creator.
+        private int pins = 1;
+
+        private Artifact(long size, long expiresAt) {
+            this.size = size;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
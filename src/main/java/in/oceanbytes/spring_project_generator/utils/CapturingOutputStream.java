@@ -0,0 +1,51 @@
+package in.oceanbytes.spring_project_generator.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Passes everything through to the target stream while keeping a copy of the first {@code limit} bytes.
+ * Once more than {@code limit} bytes have been written the copy is dropped, so memory stays bounded.
+ */
+public class CapturingOutputStream extends FilterOutputStream {
+
+    private final long limit;
+    private ByteArrayOutputStream copy = new ByteArrayOutputStream();
+
+    public CapturingOutputStream(OutputStream out, long limit) {
+        super(out);
+        this.limit = limit;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        out.write(b);
+        if (capture(1)) {
+            copy.write(b);
+        }
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        out.write(b, off, len);
+        if (capture(len)) {
+            copy.write(b, off, len);
+        }
+    }
+
+    /**
+     * Returns the captured bytes, or {@code null} if the output exceeded the limit.
+     */
+    public byte[] getCaptured() {
+        return copy == null ? null : copy.toByteArray();
+    }
+
+    private boolean capture(int length) {
+        if (copy != null && copy.size() + (long) length > limit) {
+            copy = null;
+        }
+        return copy != null;
+    }
+}
@@ -0,0 +1,52 @@
+package in.oceanbytes.spring_project_generator.utils;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+public final class ChecksumUtils {
+
+    private ChecksumUtils() {
+    }
+
+    public static String sha256Hex(byte[] bytes) {
+        return HexFormat.of().formatHex(newDigest().digest(bytes));
+    }
+
+    public static String sha256Hex(String value) {
+        return sha256Hex(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Hashes the names and contents of the given classpath resources, in order. The result changes whenever
+     * any of the resources is added, removed or edited.
+     */
+    public static String classpathFingerprint(Iterable<String> resources) throws IOException {
+        MessageDigest digest = newDigest();
+        for (String resource : resources) {
+            try (InputStream in = ChecksumUtils.class.getResourceAsStream(resource)) {
+                if (in == null) {
+                    throw new FileNotFoundException("Resource not found on classpath: " + resource);
+                }
+                digest.update(resource.getBytes(StandardCharsets.UTF_8));
+                digest.update(in.readAllBytes());
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    /**
+     * A fresh SHA-256 digest, for hashing data while it is written.
+     */
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+}
@@ -3,18 +3,21 @@ package in.oceanbytes.spring_project_generator.utils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.BufferedOutputStream;
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.DirectoryNotEmptyException;
 import java.nio.file.Files;
 import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.List;
 import java.util.stream.Stream;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipOutputStream;
+import java.util.zip.Deflater;
 
 public final class FileUtils {
 
@@ -23,41 +26,72 @@ public final class FileUtils {
     private FileUtils() {
     }
 
-    public static void zipDirectory(File sourceDir, File zipFile) throws IOException {
-        try (FileOutputStream fos = new FileOutputStream(zipFile);
-             ZipOutputStream zos = new ZipOutputStream(fos)) {
-            zipFileRecursively(sourceDir, sourceDir.getName(), zos);
+    /**
+     * Zips the directory tree into a new zip file with default compression and returns the number of files added.
+     */
+    public static int zipDirectory(File sourceDir, File zipFile) throws IOException {
+        return zipDirectory(sourceDir, zipFile, Deflater.DEFAULT_COMPRESSION, ZipArchiveEntry::file);
+    }
+
+    public static int zipDirectory(File sourceDir, File zipFile, int level, ZipArchiveEntry.Factory entryFactory) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(new FileOutputStream(zipFile), 65536)) {
+            return zipDirectory(sourceDir, out, level, entryFactory);
         }
     }
 
-    private static void zipFileRecursively(File fileToZip, String fileName, ZipOutputStream zos) throws IOException {
-        /*comment below check to include .gitignore file inside zip on linux env*/
-        /*if (fileToZip.isHidden()) {
-            return;
-        }*/
+    /**
+     * Writes the directory tree as a complete zip archive under a top-level folder named after the directory, and
+     * returns the number of files (not directories) added. Files are read and compressed in parallel on the common
+     * fork-join pool, then written in a fixed order: each directory before its children, children sorted by name.
+     * A level of 0 stores files uncompressed. File entries come from the factory, which may reuse precompressed data.
+     * The stream is not closed.
+     */
+    public static int zipDirectory(File sourceDir, OutputStream out, int level, ZipArchiveEntry.Factory entryFactory) throws IOException {
+        List<Path> paths = new ArrayList<>();
+        collectTree(sourceDir.toPath(), paths);
+        Path parent = sourceDir.toPath().getParent();
+
+        List<ZipArchiveEntry> entries;
+        try {
+            entries = paths.parallelStream()
+                    .map(path -> toZipEntry(path, parent == null ? path.toString() : parent.relativize(path).toString(), level, entryFactory))
+                    .toList();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
 
-        if (fileToZip.isDirectory()) {
-            if (!fileName.endsWith("/")) {
-                fileName += "/";
+        ZipArchiveWriter writer = new ZipArchiveWriter(out, ZipArchiveWriter.REPRODUCIBLE_TIME);
+        int files = 0;
+        for (ZipArchiveEntry entry : entries) {
+            writer.write(entry);
+            if (!entry.isDirectory()) {
+                files++;
             }
-            zos.putNextEntry(new ZipEntry(fileName));
-            zos.closeEntry();
-            File[] children = fileToZip.listFiles();
-            if (children != null) {
-                for (File childFile : children) {
-                    zipFileRecursively(childFile, fileName + childFile.getName(), zos);
+        }
+        writer.finish();
+        return files;
+    }
+
+    private static void collectTree(Path path, List<Path> paths) throws IOException {
+        paths.add(path);
+        if (Files.isDirectory(path)) {
+            try (Stream<Path> children = Files.list(path)) {
+                for (Path child : children.sorted().toList()) {
+                    collectTree(child, paths);
                 }
             }
-            return;
         }
-        try (FileInputStream fis = new FileInputStream(fileToZip)) {
-            ZipEntry zipEntry = new ZipEntry(fileName);
-            zos.putNextEntry(zipEntry);
-            byte[] bytes = new byte[1024];
-            int length;
-            while ((length = fis.read(bytes)) >= 0) {
-                zos.write(bytes, 0, length);
-            }
+    }
+
+    private static ZipArchiveEntry toZipEntry(Path path, String relativePath, int level, ZipArchiveEntry.Factory entryFactory) {
+        String name = relativePath.replace(File.separatorChar, '/');
+        if (Files.isDirectory(path)) {
+            return ZipArchiveEntry.directory(name);
+        }
+        try {
+            return entryFactory.file(name, Files.readAllBytes(path), level);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
     }
 
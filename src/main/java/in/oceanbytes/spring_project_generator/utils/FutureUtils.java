@@ -0,0 +1,52 @@
+package in.oceanbytes.spring_project_generator.utils;
+
+import in.oceanbytes.spring_project_generator.exceptions.ServiceException;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public final class FutureUtils {
+
+    private FutureUtils() {
+    }
+
+    /**
+     * Waits for the future and rethrows the task's own failure instead of an {@link ExecutionException}.
+     */
+    public static <T> T getUnwrapped(Future<T> future) throws IOException, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    /**
+     * Like {@link #getUnwrapped(Future)}, but gives up after the timeout.
+     */
+    public static <T> T getUnwrapped(Future<T> future, long timeout, TimeUnit unit)
+            throws IOException, InterruptedException, TimeoutException {
+        try {
+            return future.get(timeout, unit);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private static IOException unwrap(ExecutionException e) {
+        Throwable cause = e.getCause();
+        if (cause instanceof IOException ioException) {
+            return ioException;
+        }
+        if (cause instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (cause instanceof Error error) {
+            throw error;
+        }
+        throw new ServiceException("Project generation failed", cause);
+    }
+}
@@ -0,0 +1,55 @@
+package in.oceanbytes.spring_project_generator.utils;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Fixed-size byte buffer that keeps only the last {@code capacity} bytes written to it. Thread-safe.
+ */
+public class RingBuffer {
+
+    private final byte[] buffer;
+    private long written;
+
+    public RingBuffer(int capacity) {
+        this.buffer = new byte[capacity];
+    }
+
+    public synchronized void write(byte[] bytes, int offset, int length) {
+        if (buffer.length == 0) {
+            written += length;
+            return;
+        }
+        // Only the tail of a chunk larger than the buffer can survive.
+        if (length > buffer.length) {
+            offset += length - buffer.length;
+            written += length - buffer.length;
+            length = buffer.length;
+        }
+        int position = (int) (written % buffer.length);
+        int first = Math.min(length, buffer.length - position);
+        System.arraycopy(bytes, offset, buffer, position, first);
+        System.arraycopy(bytes, offset + first, buffer, 0, length - first);
+        written += length;
+    }
+
+    /**
+     * Total number of bytes written, including those no longer retained.
+     */
+    public synchronized long getWritten() {
+        return written;
+    }
+
+    /**
+     * The retained bytes, oldest first, decoded as UTF-8.
+     */
+    @Override
+    public synchronized String toString() {
+        int size = (int) Math.min(written, buffer.length);
+        byte[] tail = new byte[size];
+        int start = (int) ((written - size) % Math.max(buffer.length, 1));
+        int first = Math.min(size, buffer.length - start);
+        System.arraycopy(buffer, start, tail, 0, first);
+        System.arraycopy(buffer, 0, tail, first, size - first);
+        return new String(tail, StandardCharsets.UTF_8);
+    }
+}
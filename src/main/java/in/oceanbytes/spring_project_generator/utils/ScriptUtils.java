@@ -18,16 +18,13 @@ public final class ScriptUtils {
      */
     public static void extractScriptsToTempDir(File workingDir, String[] scripts) throws IOException {
         for (String scriptName : scripts) {
-            InputStream scriptStream = ScriptUtils.class.getResourceAsStream("/scripts/" + scriptName);
-            if (scriptStream == null) {
-                throw new FileNotFoundException("Script file not found in resources: /scripts/" + scriptName);
-            }
             File outFile = new File(workingDir, scriptName);
-            try (FileOutputStream out = new FileOutputStream(outFile)) {
-                byte[] buffer = new byte[1024];
-                int bytesRead;
-                while ((bytesRead = scriptStream.read(buffer)) != -1) {
-                    out.write(buffer, 0, bytesRead);
+            try (InputStream scriptStream = ScriptUtils.class.getResourceAsStream("/scripts/" + scriptName)) {
+                if (scriptStream == null) {
+                    throw new FileNotFoundException("Script file not found in resources: /scripts/" + scriptName);
+                }
+                try (FileOutputStream out = new FileOutputStream(outFile)) {
+                    scriptStream.transferTo(out);
                 }
             }
             // Mark the file as executable (works on Unix-like systems)
@@ -0,0 +1,69 @@
+package in.oceanbytes.spring_project_generator.utils;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Coalesces concurrent calls for the same key: the first caller becomes the leader and does the work,
+ * later callers wait for the leader's result instead of repeating it.
+ */
+public final class SingleFlight<T> {
+
+    private final ConcurrentHashMap<String, CompletableFuture<T>> flights = new ConcurrentHashMap<>();
+
+    /**
+     * Joins the flight for the key, starting a new one (with the caller as leader) if none is in progress.
+     * A leader must finish the flight with {@link Flight#complete} or {@link Flight#fail} on every path, errors
+     * included, or its followers wait until their timeout.
+     */
+    public Flight<T> join(String key) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        CompletableFuture<T> existing = flights.putIfAbsent(key, future);
+        return existing == null ? new Flight<>(this, key, future, true) : new Flight<>(this, key, existing, false);
+    }
+
+    /**
+     * Number of flights currently in progress.
+     */
+    public int size() {
+        return flights.size();
+    }
+
+    public static final class Flight<T> {
+        private final SingleFlight<T> owner;
+        private final String key;
+        private final CompletableFuture<T> future;
+        private final boolean leader;
+
+        private Flight(SingleFlight<T> owner, String key, CompletableFuture<T> future, boolean leader) {
+            this.owner = owner;
+            this.key = key;
+            this.future = future;
+            this.leader = leader;
+        }
+
+        public boolean isLeader() {
+            return leader;
+        }
+
+        public void complete(T result) {
+            owner.flights.remove(key, future);
+            future.complete(result);
+        }
+
+        public void fail(Throwable failure) {
+            owner.flights.remove(key, future);
+            future.completeExceptionally(failure);
+        }
+
+        /**
+         * Waits for the leader's result up to the timeout, rethrowing the leader's failure.
+         */
+        public T await(long timeout, TimeUnit unit) throws IOException, InterruptedException, TimeoutException {
+            return FutureUtils.getUnwrapped(future, timeout, unit);
+        }
+    }
+}
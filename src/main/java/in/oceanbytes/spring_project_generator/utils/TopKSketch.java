@@ -0,0 +1,120 @@
+package in.oceanbytes.spring_project_generator.utils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+/**
+ * Approximate top-K of the most frequent keys in a stream, in bounded memory and without locks: a count-min sketch
+ * ({@code depth} rows of {@code width} atomic counters) estimates each key's frequency, and the {@code k} keys with
+ * the highest estimates are kept as candidates together with a value. Estimates can only be too high, by colliding
+ * keys; {@link #decay()} halves all counts so that old traffic fades out.
+ */
+public final class TopKSketch<T> {
+
+    private static final int DEPTH = 4;
+    private static final long[] SEEDS = {0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L};
+
+    private final int k;
+    private final int width;
+    private final AtomicLongArray counts;
+    private final ConcurrentHashMap<String, Candidate<T>> candidates = new ConcurrentHashMap<>();
+
+    /**
+     * @param width counters per row, rounded up to a power of two; more counters mean fewer collisions
+     */
+    public TopKSketch(int k, int width) {
+        this.k = k;
+        this.width = Integer.highestOneBit(Math.max(width, 2) - 1) << 1;
+        this.counts = new AtomicLongArray(DEPTH * this.width);
+    }
+
+    /**
+     * Counts one occurrence of the key and returns its estimated frequency. The value is only created when the key
+     * becomes a candidate.
+     */
+    public long add(String key, Supplier<T> value) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, counts.incrementAndGet(index(key, row)));
+        }
+        offer(key, estimate, value);
+        return estimate;
+    }
+
+    /**
+     * The candidates, most frequent first.
+     */
+    public List<Candidate<T>> top() {
+        List<Candidate<T>> top = new ArrayList<>(candidates.values());
+        top.sort(Comparator.comparingLong(Candidate<T>::getEstimate).reversed());
+        return top;
+    }
+
+    /**
+     * Halves every count, so that keys which are no longer requested lose their place over time.
+     */
+    public void decay() {
+        for (int i = 0; i < counts.length(); i++) {
+            counts.getAndUpdate(i, count -> count >> 1);
+        }
+        candidates.values().forEach(candidate -> candidate.estimate >>= 1);
+        candidates.values().removeIf(candidate -> candidate.estimate == 0);
+    }
+
+    private void offer(String key, long estimate, Supplier<T> value) {
+        Candidate<T> existing = candidates.get(key);
+        if (existing != null) {
+            existing.estimate = estimate;
+            return;
+        }
+        if (candidates.size() < k) {
+            candidates.putIfAbsent(key, new Candidate<>(key, value.get(), estimate));
+            return;
+        }
+        // Replace the weakest candidate if this key is now more frequent. Racing threads may briefly leave one
+        // candidate more or fewer than k; the set stays bounded either way.
+        Candidate<T> weakest = null;
+        for (Candidate<T> candidate : candidates.values()) {
+            if (weakest == null || candidate.estimate < weakest.estimate) {
+                weakest = candidate;
+            }
+        }
+        if (weakest != null && estimate > weakest.estimate && candidates.remove(weakest.key, weakest)) {
+            candidates.putIfAbsent(key, new Candidate<>(key, value.get(), estimate));
+        }
+    }
+
+    private int index(String key, int row) {
+        long hash = (key.hashCode() + SEEDS[row]) * SEEDS[(row + 1) % DEPTH];
+        hash ^= hash >>> 31;
+        return row * width + (int) (hash & (width - 1));
+    }
+
+    public static final class Candidate<T> {
+        private final String key;
+        private final T value;
+        private volatile long estimate;
+
+        private Candidate(String key, T value, long estimate) {
+            this.key = key;
+            this.value = value;
+            this.estimate = estimate;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public T getValue() {
+            return value;
+        }
+
+        public long getEstimate() {
+            return estimate;
+        }
+    }
+}
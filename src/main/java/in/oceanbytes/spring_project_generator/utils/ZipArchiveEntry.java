@@ -0,0 +1,122 @@
+package in.oceanbytes.spring_project_generator.utils;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+
+/**
+ * A zip entry whose data is already compressed, with CRC and sizes computed up front. Entries are immutable, so
+ * they can be compressed concurrently and written by {@link ZipArchiveWriter} later, in any order, any number of times.
+ */
+public final class ZipArchiveEntry {
+
+    private static final byte[] NO_DATA = new byte[0];
+
+    private final String name;
+    private final byte[] nameBytes;
+    private final int method;
+    private final long crc;
+    private final long size;
+    private final byte[] data;
+
+    /**
+     * Creates file entries; lets callers plug in a pool of precompressed entries instead of {@link #file}.
+     */
+    @FunctionalInterface
+    public interface Factory {
+        ZipArchiveEntry file(String name, byte[] content, int level);
+    }
+
+    private ZipArchiveEntry(String name, int method, long crc, long size, byte[] data) {
+        this.name = name;
+        this.nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        this.method = method;
+        this.crc = crc;
+        this.size = size;
+        this.data = data;
+    }
+
+    /**
+     * A directory entry; a trailing '/' is added if missing.
+     */
+    public static ZipArchiveEntry directory(String name) {
+        return new ZipArchiveEntry(name.endsWith("/") ? name : name + "/", ZipEntry.STORED, 0, 0, NO_DATA);
+    }
+
+    /**
+     * A file entry compressed at the given level: 0 stores the content as is, 1-9 or
+     * {@link Deflater#DEFAULT_COMPRESSION} deflate it.
+     */
+    public static ZipArchiveEntry file(String name, byte[] content, int level) {
+        CRC32 crc = new CRC32();
+        crc.update(content);
+        if (level == Deflater.NO_COMPRESSION) {
+            return new ZipArchiveEntry(name, ZipEntry.STORED, crc.getValue(), content.length, content);
+        }
+        return new ZipArchiveEntry(name, ZipEntry.DEFLATED, crc.getValue(), content.length, deflate(content, level));
+    }
+
+    // An entry read from an existing archive by ZipArchiveReader, with its data still compressed.
+    static ZipArchiveEntry raw(String name, int method, long crc, long size, byte[] data) {
+        return new ZipArchiveEntry(name, method, crc, size, data);
+    }
+
+    /**
+     * The same compressed data under another name, without recompressing.
+     */
+    public ZipArchiveEntry withName(String newName) {
+        return newName.equals(name) ? this : new ZipArchiveEntry(newName, method, crc, size, data);
+    }
+
+    private static byte[] deflate(byte[] content, int level) {
+        // Raw deflate data (no zlib header), as stored in zip entries.
+        Deflater deflater = new Deflater(level, true);
+        try {
+            deflater.setInput(content);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, content.length / 2));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                int length = deflater.deflate(buffer);
+                out.write(buffer, 0, length);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isDirectory() {
+        return name.endsWith("/");
+    }
+
+    byte[] getNameBytes() {
+        return nameBytes;
+    }
+
+    public int getMethod() {
+        return method;
+    }
+
+    public long getCrc() {
+        return crc;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public long getCompressedSize() {
+        return data.length;
+    }
+
+    byte[] getData() {
+        return data;
+    }
+}
@@ -0,0 +1,82 @@
+package in.oceanbytes.spring_project_generator.utils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+
+/**
+ * Reads the entries of an in-memory zip archive without decompressing them, so they can be written into another
+ * archive by {@link ZipArchiveWriter} as they are. Entries are found through the central directory; only plain
+ * (non-Zip64, unencrypted) stored or deflated entries are supported, as {@link ZipArchiveWriter} writes them.
+ */
+public final class ZipArchiveReader {
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIZE = 22;
+    // General purpose flag bit 0: the entry is encrypted.
+    private static final int FLAG_ENCRYPTED = 0x0001;
+
+    private ZipArchiveReader() {
+    }
+
+    /**
+     * Returns the entries of the archive in central directory order, with their compressed data.
+     */
+    public static List<ZipArchiveEntry> entries(byte[] archive) throws IOException {
+        ByteBuffer zip = ByteBuffer.wrap(archive).order(ByteOrder.LITTLE_ENDIAN);
+        int end = findEndOfCentralDirectory(zip);
+        int count = zip.getShort(end + 10) & 0xFFFF;
+        int offset = zip.getInt(end + 16);
+
+        List<ZipArchiveEntry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            check(offset >= 0 && offset + 46 <= end && zip.getInt(offset) == CENTRAL_HEADER_SIGNATURE, "central directory");
+            int flags = zip.getShort(offset + 8) & 0xFFFF;
+            int method = zip.getShort(offset + 10) & 0xFFFF;
+            long crc = zip.getInt(offset + 16) & 0xFFFFFFFFL;
+            long compressedSize = zip.getInt(offset + 20) & 0xFFFFFFFFL;
+            long size = zip.getInt(offset + 24) & 0xFFFFFFFFL;
+            int nameLength = zip.getShort(offset + 28) & 0xFFFF;
+            int extraLength = zip.getShort(offset + 30) & 0xFFFF;
+            int commentLength = zip.getShort(offset + 32) & 0xFFFF;
+            long localOffset = zip.getInt(offset + 42) & 0xFFFFFFFFL;
+            check((flags & FLAG_ENCRYPTED) == 0 && (method == ZipEntry.STORED || method == ZipEntry.DEFLATED), "entry method");
+            String name = new String(archive, offset + 46, nameLength, StandardCharsets.UTF_8);
+
+            // The data follows the local header, whose name and extra field may differ from the central ones.
+            check(localOffset + 30 <= end && zip.getInt((int) localOffset) == LOCAL_HEADER_SIGNATURE, "local header");
+            long dataOffset = localOffset + 30 + (zip.getShort((int) localOffset + 26) & 0xFFFF)
+                    + (zip.getShort((int) localOffset + 28) & 0xFFFF);
+            check(dataOffset + compressedSize <= end, "entry data");
+            byte[] data = new byte[(int) compressedSize];
+            System.arraycopy(archive, (int) dataOffset, data, 0, data.length);
+            entries.add(ZipArchiveEntry.raw(name, method, crc, size, data));
+
+            offset += 46 + nameLength + extraLength + commentLength;
+        }
+        return entries;
+    }
+
+    // The end of central directory record is last, followed only by an optional comment of up to 64 KB.
+    private static int findEndOfCentralDirectory(ByteBuffer zip) throws IOException {
+        int last = zip.limit() - END_OF_CENTRAL_DIRECTORY_SIZE;
+        for (int position = last; position >= 0 && position >= last - 0xFFFF; position--) {
+            if (zip.getInt(position) == END_OF_CENTRAL_DIRECTORY_SIGNATURE) {
+                return position;
+            }
+        }
+        throw new IOException("Not a zip archive: no end of central directory");
+    }
+
+    private static void check(boolean valid, String part) throws IOException {
+        if (!valid) {
+            throw new IOException("Unsupported or corrupt zip archive: " + part);
+        }
+    }
+}
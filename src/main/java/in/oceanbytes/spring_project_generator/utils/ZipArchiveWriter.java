@@ -0,0 +1,163 @@
+package in.oceanbytes.spring_project_generator.utils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.ZipEntry;
+
+/**
+ * Writes {@link ZipArchiveEntry precompressed entries} as a zip archive: local headers and data in the order the
+ * entries are written, then the central directory on {@link #finish()}. Every entry gets the same timestamp.
+ * Only plain (non-Zip64) archives are supported: up to 65535 entries and 4 GB.
+ */
+public class ZipArchiveWriter {
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_OF_CENTRAL_DIRECTORY_SIGNATURE = 0x06054b50;
+    // General purpose flag bit 11: names are UTF-8.
+    private static final int FLAG_UTF8 = 0x0800;
+    private static final long MAX_OFFSET = 0xFFFFFFFFL;
+    private static final int MAX_ENTRIES = 0xFFFF;
+
+    /**
+     * Fixed entry timestamp for reproducible archives (the one Gradle uses): the same entries always produce
+     * byte-identical archives, which strong ETags and Range requests rely on.
+     */
+    public static final LocalDateTime REPRODUCIBLE_TIME = LocalDateTime.of(1980, 2, 1, 0, 0);
+
+    private final OutputStream out;
+    private final int dosTime;
+    private final int dosDate;
+    // Only what the central directory needs is kept; entry data is not retained once written.
+    private final List<CentralRecord> entries = new ArrayList<>();
+    private final byte[] header = new byte[46];
+    private long written;
+
+    public ZipArchiveWriter(OutputStream out) {
+        this(out, System.currentTimeMillis());
+    }
+
+    public ZipArchiveWriter(OutputStream out, long timeMillis) {
+        this(out, LocalDateTime.ofInstant(Instant.ofEpochMilli(timeMillis), ZoneId.systemDefault()));
+    }
+
+    public ZipArchiveWriter(OutputStream out, LocalDateTime time) {
+        this.out = out;
+        if (time.getYear() < 1980) {
+            time = LocalDateTime.of(1980, 1, 1, 0, 0);
+        }
+        this.dosTime = (time.getHour() << 11) | (time.getMinute() << 5) | (time.getSecond() >> 1);
+        this.dosDate = ((time.getYear() - 1980) << 9) | (time.getMonthValue() << 5) | time.getDayOfMonth();
+    }
+
+    public void write(ZipArchiveEntry entry) throws IOException {
+        if (entries.size() == MAX_ENTRIES || written + 30 + entry.getNameBytes().length + entry.getCompressedSize() > MAX_OFFSET) {
+            throw new IOException("Archive too large for a zip without Zip64 extensions");
+        }
+        entries.add(new CentralRecord(entry, written));
+
+        putInt(0, LOCAL_HEADER_SIGNATURE);
+        putShort(4, versionNeeded(entry));
+        putShort(6, FLAG_UTF8);
+        putShort(8, entry.getMethod());
+        putShort(10, dosTime);
+        putShort(12, dosDate);
+        putInt(14, (int) entry.getCrc());
+        putInt(18, (int) entry.getCompressedSize());
+        putInt(22, (int) entry.getSize());
+        putShort(26, entry.getNameBytes().length);
+        putShort(28, 0);
+        writeBytes(header, 30);
+        writeBytes(entry.getNameBytes(), entry.getNameBytes().length);
+        writeBytes(entry.getData(), entry.getData().length);
+    }
+
+    /**
+     * Writes the central directory. The underlying stream is flushed but not closed.
+     */
+    public void finish() throws IOException {
+        long centralDirectoryOffset = written;
+        for (int i = 0; i < entries.size(); i++) {
+            CentralRecord entry = entries.get(i);
+            putInt(0, CENTRAL_HEADER_SIGNATURE);
+            putShort(4, 20);
+            putShort(6, entry.versionNeeded);
+            putShort(8, FLAG_UTF8);
+            putShort(10, entry.method);
+            putShort(12, dosTime);
+            putShort(14, dosDate);
+            putInt(16, (int) entry.crc);
+            putInt(20, (int) entry.compressedSize);
+            putInt(24, (int) entry.size);
+            putShort(28, entry.nameBytes.length);
+            putShort(30, 0);
+            putShort(32, 0);
+            putShort(34, 0);
+            putShort(36, 0);
+            putInt(38, 0);
+            putInt(42, (int) entry.offset);
+            writeBytes(header, 46);
+            writeBytes(entry.nameBytes, entry.nameBytes.length);
+        }
+        long centralDirectorySize = written - centralDirectoryOffset;
+        if (written > MAX_OFFSET) {
+            throw new IOException("Archive too large for a zip without Zip64 extensions");
+        }
+
+        putInt(0, END_OF_CENTRAL_DIRECTORY_SIGNATURE);
+        putShort(4, 0);
+        putShort(6, 0);
+        putShort(8, entries.size());
+        putShort(10, entries.size());
+        putInt(12, (int) centralDirectorySize);
+        putInt(16, (int) centralDirectoryOffset);
+        putShort(20, 0);
+        writeBytes(header, 22);
+        out.flush();
+    }
+
+    private static int versionNeeded(ZipArchiveEntry entry) {
+        return entry.getMethod() == ZipEntry.DEFLATED || entry.isDirectory() ? 20 : 10;
+    }
+
+    private void writeBytes(byte[] bytes, int length) throws IOException {
+        out.write(bytes, 0, length);
+        written += length;
+    }
+
+    // Zip headers are little-endian.
+    private void putShort(int offset, int value) {
+        header[offset] = (byte) value;
+        header[offset + 1] = (byte) (value >>> 8);
+    }
+
+    private void putInt(int offset, int value) {
+        putShort(offset, value);
+        putShort(offset + 2, value >>> 16);
+    }
+
+    private static final class CentralRecord {
+        private final byte[] nameBytes;
+        private final int versionNeeded;
+        private final int method;
+        private final long crc;
+        private final long compressedSize;
+        private final long size;
+        private final long offset;
+
+        private CentralRecord(ZipArchiveEntry entry, long offset) {
+            this.nameBytes = entry.getNameBytes();
+            this.versionNeeded = versionNeeded(entry);
+            this.method = entry.getMethod();
+            this.crc = entry.getCrc();
+            this.compressedSize = entry.getCompressedSize();
+            this.size = entry.getSize();
+            this.offset = offset;
+        }
+    }
+}
@@ -39,9 +39,10 @@ export BASE_PACKAGE_DIR
 BASE_PACKAGE_DIR=$(tr '.' '/' <<< "$GROUP_NAME")
 export BASE_DIR="$PROJECT_NAME/src/main/java/${BASE_PACKAGE_DIR}/${PACKAGE_NAME}"
 
-# Run sub-scripts
-./create_directories.sh
-./generate_configs.sh
-./generate_classes.sh
+# Run sub-scripts from the directory holding this script; the project is generated in the current directory.
+SCRIPT_DIR=$(cd "$(dirname "${BASH_SOURCE[0]}")" && pwd)
+"$SCRIPT_DIR/create_directories.sh"
+"$SCRIPT_DIR/generate_configs.sh"
+"$SCRIPT_DIR/generate_classes.sh"
 
 echo "Project '$PROJECT_NAME' generated successfully!"
\ No newline at end of file
@@ -47,6 +47,82 @@ document.addEventListener("DOMContentLoaded", function() {
     });
 });
 
+// Generate through the async job API: submit, poll the job status, then download the archive.
+// Falls back to the plain form submission if the job API cannot be reached.
+document.addEventListener("DOMContentLoaded", function() {
+    var form = document.getElementById("generatorForm");
+    if (!form || !window.fetch) {
+        return;
+    }
+    var jobsUrl = form.getAttribute("data-jobs-url");
+    var button = form.querySelector(".generate-btn");
+    var statusBox = document.getElementById("jobStatus");
+    var pollIntervalMs = 500;
+
+    function showStatus(text) {
+        statusBox.textContent = text;
+    }
+
+    function finish(text) {
+        button.disabled = false;
+        showStatus(text);
+    }
+
+    function errorMessage(response) {
+        return response.json()
+            .then(function(error) { return error.message; })
+            .catch(function() { return "Generation failed (" + response.status + ")."; });
+    }
+
+    function poll(job) {
+        fetch(jobsUrl + "/" + job.id, { headers: { "Accept": "application/json" } })
+            .then(function(response) {
+                if (!response.ok) {
+                    return errorMessage(response).then(function(message) { throw new Error(message); });
+                }
+                return response.json();
+            })
+            .then(function(current) {
+                if (current.status === "SUCCEEDED") {
+                    finish("");
+                    window.location.href = jobsUrl + "/" + current.id + "/download";
+                } else if (current.status === "FAILED") {
+                    finish(current.message || "Generation failed.");
+                } else {
+                    showStatus(current.status === "RUNNING" ? "Generating..." : "Waiting for a free generator...");
+                    setTimeout(function() { poll(current); }, pollIntervalMs);
+                }
+            })
+            .catch(function(error) { finish(error.message); });
+    }
+
+    form.addEventListener("submit", function(event) {
+        event.preventDefault();
+        button.disabled = true;
+        showStatus("Submitting...");
+
+        fetch(jobsUrl, {
+            method: "POST",
+            headers: { "Accept": "application/json" },
+            body: new URLSearchParams(new FormData(form))
+        })
+            .then(function(response) {
+                if (response.status === 202) {
+                    return response.json().then(poll);
+                }
+                return errorMessage(response).then(function(message) {
+                    var retryAfter = response.headers.get("Retry-After");
+                    finish(retryAfter ? message + " Retry in " + retryAfter + "s." : message);
+                });
+            })
+            .catch(function() {
+                button.disabled = false;
+                showStatus("");
+                form.submit();
+            });
+    });
+});
+
 // Theme Toggle
 function toggleTheme() {
     const body = document.body;
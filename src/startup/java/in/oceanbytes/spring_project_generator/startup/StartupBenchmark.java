@@ -0,0 +1,188 @@
+package in.oceanbytes.spring_project_generator.startup;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cold-start benchmark: time from launching the JVM to the first successful {@code /generate}, per launch variant
+ * of the application jar.
+ * <ul>
+ *   <li>{@code jar}: {@code java -jar app.jar}, as the default Dockerfile runs it</li>
+ *   <li>{@code cds}: the extracted jar with a class-data-sharing archive from a training run</li>
+ *   <li>{@code startup}: as Dockerfile.startup runs it, i.e. extracted, CDS, Spring AOT and lazy initialization</li>
+ * </ul>
+ * A single-file program without dependencies, run by the {@code startup} Maven profile after packaging, or directly:
+ * <pre>
+ * java src/startup/java/in/oceanbytes/spring_project_generator/startup/StartupBenchmark.java --jar=target/app.jar --runs=5
+ * </pre>
+ * The jar must have been built with {@code -P startup} for the AOT variant.
+ */
+public final class StartupBenchmark {
+
+    private static final List<String> AOT = List.of("-Dspring.aot.enabled=true", "-Dspring.main.lazy-initialization=true");
+
+    private Path jar;
+    private int runs = 5;
+    private List<String> variants = List.of("jar", "cds", "startup");
+    private int port = 18080;
+    private long timeoutSeconds = 120;
+    private Path workDir = Paths.get("target/startup-benchmark");
+
+    private final HttpClient client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+    private int requestCount;
+
+    public static void main(String[] args) throws Exception {
+        StartupBenchmark benchmark = new StartupBenchmark();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Expected --name=value, got: " + arg);
+            }
+            benchmark.set(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        if (benchmark.jar == null) {
+            throw new IllegalArgumentException("--jar is required");
+        }
+        benchmark.run();
+    }
+
+    private void set(String name, String value) {
+        switch (name) {
+            case "jar" -> jar = Paths.get(value);
+            case "runs" -> runs = Integer.parseInt(value);
+            case "variants" -> variants = Arrays.asList(value.split(","));
+            case "port" -> port = Integer.parseInt(value);
+            case "timeout" -> timeoutSeconds = Long.parseLong(value);
+            case "work-dir" -> workDir = Paths.get(value);
+            default -> throw new IllegalArgumentException("Unknown option --" + name);
+        }
+    }
+
+    private void run() throws IOException, InterruptedException {
+        Files.createDirectories(workDir);
+        Path extracted = workDir.resolve("extracted");
+        Path extractedJar = extracted.resolve(jar.getFileName());
+        if (!variants.equals(List.of("jar"))) {
+            System.out.println("Extracting " + jar);
+            exec(List.of(java(), "-Djarmode=tools", "-jar", jar.toString(), "extract", "--destination", extracted.toString(), "--force"));
+        }
+
+        Map<String, List<String>> commands = new LinkedHashMap<>();
+        for (String variant : variants) {
+            List<String> command = new ArrayList<>();
+            command.add(java());
+            switch (variant) {
+                case "jar" -> command.addAll(List.of("-jar", jar.toString()));
+                case "cds" -> {
+                    Path archive = train(workDir.resolve("cds.jsa"), extractedJar, List.of());
+                    command.addAll(List.of("-XX:SharedArchiveFile=" + archive, "-jar", extractedJar.toString()));
+                }
+                case "startup" -> {
+                    Path archive = train(workDir.resolve("startup.jsa"), extractedJar, AOT);
+                    command.add("-XX:SharedArchiveFile=" + archive);
+                    command.addAll(AOT);
+                    command.addAll(List.of("-jar", extractedJar.toString()));
+                }
+                default -> throw new IllegalArgumentException("Unknown variant: " + variant);
+            }
+            command.addAll(List.of("--server.port=" + port, "--logging.level.root=WARN"));
+            commands.put(variant, command);
+        }
+
+        Map<String, long[]> results = new LinkedHashMap<>();
+        commands.keySet().forEach(variant -> results.put(variant, new long[runs]));
+        // Interleave the variants, so that a noisy moment on the machine does not hit only one of them.
+        for (int run = 0; run < runs; run++) {
+            for (Map.Entry<String, List<String>> variant : commands.entrySet()) {
+                long millis = timeToFirstGenerate(variant.getValue(), workDir.resolve(variant.getKey() + ".log"));
+                results.get(variant.getKey())[run] = millis;
+                System.out.printf("run %d %-8s %6d ms%n", run + 1, variant.getKey(), millis);
+            }
+        }
+
+        System.out.printf("%n%-8s %8s %8s %8s %9s%n", "variant", "min ms", "median", "max ms", "vs jar");
+        Double baseline = results.containsKey("jar") ? median(results.get("jar")) : null;
+        for (Map.Entry<String, long[]> result : results.entrySet()) {
+            long[] times = result.getValue().clone();
+            Arrays.sort(times);
+            double median = median(times);
+            System.out.printf("%-8s %8d %8.0f %8d %9s%n", result.getKey(), times[0], median, times[times.length - 1],
+                    baseline == null ? "-" : String.format("%.2fx", baseline / median));
+        }
+    }
+
+    /**
+     * Runs the application up to a refreshed context and dumps the classes it loaded into a CDS archive. Always
+     * retrained: an archive from an older jar would be rejected by the JVM and silently measure nothing.
+     */
+    private Path train(Path archive, Path extractedJar, List<String> options) throws IOException, InterruptedException {
+        Files.deleteIfExists(archive);
+        System.out.println("Training run for " + archive.getFileName());
+        List<String> command = new ArrayList<>(List.of(java(), "-XX:ArchiveClassesAtExit=" + archive, "-Dspring.context.exit=onRefresh"));
+        command.addAll(options);
+        command.addAll(List.of("-jar", extractedJar.toString(), "--server.port=0", "--logging.level.root=WARN"));
+        exec(command);
+        return archive;
+    }
+
+    private long timeToFirstGenerate(List<String> command, Path log) throws IOException, InterruptedException {
+        String url = "http://localhost:" + port + "/api/spring-project-generator/v1/generate?groupName=com.example"
+                + "&packages=controllers,services&apis=GET,POST&javaVersion=17&projectName=startup-" + System.nanoTime() + "-" + (++requestCount);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url)).timeout(Duration.ofSeconds(30)).build();
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        try {
+            long deadline = start + TimeUnit.SECONDS.toNanos(timeoutSeconds);
+            while (System.nanoTime() < deadline) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Application exited with " + process.exitValue() + ", see " + log);
+                }
+                try {
+                    if (client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                    }
+                } catch (IOException e) {
+                    // Not listening yet.
+                }
+                Thread.sleep(10);
+            }
+            throw new IllegalStateException("No successful /generate within " + timeoutSeconds + "s, see " + log);
+        } finally {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static void exec(List<String> command) throws IOException, InterruptedException {
+        int exitCode = new ProcessBuilder(command).inheritIO().start().waitFor();
+        if (exitCode != 0) {
+            throw new IllegalStateException("Failed with exit code " + exitCode + ": " + String.join(" ", command));
+        }
+    }
+
+    private static double median(long[] times) {
+        long[] sorted = times.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2.0;
+    }
+
+    private static String java() {
+        return Paths.get(System.getProperty("java.home"), "bin", "java").toString();
+    }
+}
@@ -0,0 +1,169 @@
+package in.oceanbytes.spring_project_generator.generators;
+
+import in.oceanbytes.spring_project_generator.executors.ProcessWatchdog;
+import in.oceanbytes.spring_project_generator.metrics.GenerationMetrics;
+import in.oceanbytes.spring_project_generator.models.ProjectRequest;
+import in.oceanbytes.spring_project_generator.utils.ZipArchiveEntry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The template engine must lay out exactly the tree the bash scripts do: same paths, same bytes.
+ * Runs every API selection and Java version against no packages, each package alone, and all packages, then
+ * other project and group names (which the engines turn into artifact ids, class names and package paths)
+ * against no packages and all packages.
+ */
+class EngineEquivalenceTest {
+
+    private static final List<String> PACKAGES = Arrays.asList(
+            "controllers", "services", "repositories", "models", "exceptions", "config",
+            "common", "constants", "aspects", "entities", "utils");
+    private static final List<String> APIS = Arrays.asList("GET", "POST", "PUT", "DELETE");
+    private static final List<String> JAVA_VERSIONS = Arrays.asList("17", "21");
+    private static final String PROJECT_NAME = "demo-app";
+    private static final String GROUP_NAME = "com.example";
+    // Underscores and digits, a single letter, upper-case group segments, several hyphens.
+    private static final List<List<String>> NAMES = List.of(
+            List.of("my-cool_app2", GROUP_NAME),
+            List.of("x", GROUP_NAME),
+            List.of(PROJECT_NAME, "Com.Example.Sub"),
+            List.of("my-very-long-app-name", "org.acme"),
+            List.of("x", "Com.Example.Sub"));
+
+    @TempDir
+    static Path scriptsDir;
+
+    private static ProcessWatchdog processWatchdog;
+    private static ScriptProjectGenerator scriptGenerator;
+    private static TemplateProjectGenerator templateGenerator;
+
+    @BeforeAll
+    static void setUp() throws IOException {
+        GenerationMetrics metrics = new GenerationMetrics(new SimpleMeterRegistry());
+        ScriptBundle scriptBundle = new ScriptBundle();
+        ReflectionTestUtils.setField(scriptBundle, "scriptsRoot", scriptsDir.toString());
+        processWatchdog = new ProcessWatchdog(metrics, new MockEnvironment());
+        ReflectionTestUtils.setField(processWatchdog, "timeoutSeconds", 20L);
+        ReflectionTestUtils.setField(processWatchdog, "outputBufferBytes", 8192);
+        scriptGenerator = new ScriptProjectGenerator(scriptBundle, processWatchdog, metrics);
+        templateGenerator = new TemplateProjectGenerator(new ProjectTemplates());
+    }
+
+    @AfterAll
+    static void tearDown() {
+        processWatchdog.shutdown();
+    }
+
+    static Stream<Arguments> combinations() {
+        List<List<String>> packageSets = new ArrayList<>();
+        packageSets.add(List.of());
+        for (String pkg : PACKAGES) {
+            packageSets.add(List.of(pkg));
+        }
+        packageSets.add(PACKAGES);
+
+        List<Arguments> combinations = new ArrayList<>();
+        for (List<String> packages : packageSets) {
+            for (int mask = 0; mask < 1 << APIS.size(); mask++) {
+                List<String> apis = new ArrayList<>();
+                for (int i = 0; i < APIS.size(); i++) {
+                    if ((mask & 1 << i) != 0) {
+                        apis.add(APIS.get(i));
+                    }
+                }
+                for (String javaVersion : JAVA_VERSIONS) {
+                    combinations.add(Arguments.of(PROJECT_NAME, GROUP_NAME, packages, apis, javaVersion));
+                }
+            }
+        }
+        for (List<String> name : NAMES) {
+            for (List<String> packages : List.of(List.<String>of(), PACKAGES)) {
+                for (String javaVersion : JAVA_VERSIONS) {
+                    combinations.add(Arguments.of(name.get(0), name.get(1), packages, APIS, javaVersion));
+                }
+            }
+        }
+        return combinations.stream();
+    }
+
+    @ParameterizedTest(name = "name={0} group={1} packages={2} apis={3} java={4}")
+    @MethodSource("combinations")
+    void enginesProduceIdenticalTrees(String projectName, String groupName, List<String> packages, List<String> apis,
+                                      String javaVersion, @TempDir Path scriptDir, @TempDir Path templateDir) throws Exception {
+        ProjectRequest request = new ProjectRequest();
+        request.setProjectName(projectName);
+        request.setGroupName(groupName);
+        request.setPackages(packages);
+        request.setApis(apis);
+        request.setJavaVersion(javaVersion);
+
+        scriptGenerator.generate(request, new DirectoryWorkspace(scriptDir));
+        templateGenerator.render(ProjectLayout.of(request), new DirectoryEntryWriter(templateDir));
+
+        assertThat(tree(templateDir)).isEqualTo(tree(scriptDir));
+    }
+
+    // Relative path to content; bytes are mapped one-to-one onto chars so that failures show a readable diff.
+    private static Map<String, String> tree(Path root) throws IOException {
+        Map<String, String> tree = new TreeMap<>();
+        try (Stream<Path> paths = Files.walk(root)) {
+            for (Path path : (Iterable<Path>) paths::iterator) {
+                if (path.equals(root)) {
+                    continue;
+                }
+                String name = root.relativize(path).toString().replace('\\', '/');
+                tree.put(name, Files.isDirectory(path) ? "<dir>" : new String(Files.readAllBytes(path), StandardCharsets.ISO_8859_1));
+            }
+        }
+        return tree;
+    }
+
+    // The script engine only needs the working directory.
+    private static final class DirectoryWorkspace implements Workspace {
+        private final Path directory;
+
+        private DirectoryWorkspace(Path directory) {
+            this.directory = directory;
+        }
+
+        @Override
+        public ProjectEntryWriter entryWriter() {
+            return new DirectoryEntryWriter(directory);
+        }
+
+        @Override
+        public Path getDirectory() {
+            return directory;
+        }
+
+        @Override
+        public int zipTo(String projectName, OutputStream out, int level, ZipArchiveEntry.Factory entryFactory) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}